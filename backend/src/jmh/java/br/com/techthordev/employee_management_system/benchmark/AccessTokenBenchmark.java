@@ -0,0 +1,114 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.security.JwtAuthenticationFilter;
+import br.com.techthordev.employee_management_system.security.JwtTokenProvider;
+import br.com.techthordev.employee_management_system.security.TokenDenylist;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token formats: the previous one (HS512, {@code iat}, UUID string
+ * {@code jti}, role names) against the compact one from
+ * {@link JwtTokenProvider#generateToken} (HS256, base64url {@code jti} and
+ * {@code fid}, role bitmask). Both go through the same provider, which accepts either.
+ * <ul>
+ *     <li>{@code parse}: signature check, JSON parse and authorities, as on a verified-token cache miss</li>
+ *     <li>{@code filterCached}: the filter with the verified-token cache warm
+ *     (hashes the header on every request)</li>
+ * </ul>
+ * The Authorization header length of each format is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenBenchmark {
+
+    @Param({"legacy", "compact"})
+    public String format;
+
+    private JwtTokenProvider provider;
+    private JwtAuthenticationFilter cachedFilter;
+    private String token;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() throws Exception {
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        TokenDenylist denylist = new TokenDenylist(1024);
+        provider = new JwtTokenProvider(
+                JwtAuthenticationFilterBenchmark.SECRET, 900_000, 10_000, meterRegistry, denylist);
+        cachedFilter = new JwtAuthenticationFilter(provider);
+
+        token = "legacy".equals(format)
+                ? legacyToken()
+                : provider.generateToken(User.withUsername("susan")
+                        .password("n/a")
+                        .authorities("ROLE_EMPLOYEE", "ROLE_MANAGER", "ROLE_ADMIN")
+                        .build(), UUID.randomUUID());
+        authorizationHeader = "Bearer " + token;
+
+        // warm the cache
+        cachedFilter.doFilter(newRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+
+        System.out.println();
+        System.out.println("Authorization header (" + format + "): " + authorizationHeader.length() + " bytes");
+    }
+
+    private static String legacyToken() {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject("susan")
+                .claim("authorities", List.of("ROLE_ADMIN", "ROLE_EMPLOYEE", "ROLE_MANAGER"))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 900_000))
+                .signWith(Keys.hmacShaKeyFor(JwtAuthenticationFilterBenchmark.SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Benchmark
+    public Object parse() {
+        return provider.extractAuthorities(token);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        cachedFilter.doFilter(newRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees");
+        request.addHeader("Authorization", authorizationHeader);
+        return request;
+    }
+}
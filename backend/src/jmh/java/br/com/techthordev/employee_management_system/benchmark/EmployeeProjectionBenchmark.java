@@ -0,0 +1,164 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeField;
+import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.repository.EmployeeProjectionRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeRepository;
+import br.com.techthordev.employee_management_system.service.EmployeeService;
+import br.com.techthordev.employee_management_system.service.TotalMode;
+import br.com.techthordev.employee_management_system.service.impl.EmployeeServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One list page as served by GET /v1/employees, read and serialized to JSON.
+ * <ul>
+ *     <li>{@code fullEntities}: no {@code fields}, entities through JPA then DTOs (baseline)</li>
+ *     <li>{@code projectedAll}: {@code fields=id,firstName,lastName,email}, columns straight into maps</li>
+ *     <li>{@code projectedNarrow}: {@code fields=id,lastName}</li>
+ * </ul>
+ * Runs against an in-memory H2 database in PostgreSQL mode; run with {@code -prof gc}
+ * for the allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeProjectionBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private EmployeeService employeeService;
+    private JsonMapper jsonMapper;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JpaConfig.class);
+
+        List<Object[]> rows = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            rows.add(new Object[]{"First" + i, "Last" + i, "employee" + i + "@example.com"});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO employee (first_name, last_name, email, version) VALUES (?, ?, ?, 0)", rows);
+
+        employeeService = new EmployeeServiceImpl(
+                context.getBean(EmployeeRepository.class),
+                null,
+                null,
+                context.getBean(EmployeeProjectionRepository.class),
+                null,
+                null
+        );
+        jsonMapper = JsonMapper.builder().build();
+        // a middle page, so no total is computed with total=none
+        pageable = PageRequest.of(EMPLOYEES / pageSize / 2, pageSize, Sort.by("lastName"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] fullEntities() {
+        return jsonMapper.writeValueAsBytes(employeeService.getEmployeePage(null, pageable, TotalMode.NONE));
+    }
+
+    @Benchmark
+    public byte[] projectedAll() {
+        return jsonMapper.writeValueAsBytes(employeeService.getEmployeeFields(null, pageable, TotalMode.NONE,
+                Set.of(EmployeeField.values())));
+    }
+
+    @Benchmark
+    public byte[] projectedNarrow() {
+        return jsonMapper.writeValueAsBytes(employeeService.getEmployeeFields(null, pageable, TotalMode.NONE,
+                Set.of(EmployeeField.ID, EmployeeField.LAST_NAME)));
+    }
+
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = EmployeeRepository.class,
+            includeFilters = @ComponentScan.Filter(
+                    type = FilterType.ASSIGNABLE_TYPE,
+                    classes = EmployeeRepository.class
+            )
+    )
+    static class JpaConfig {
+
+        @Bean
+        DataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:projection;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS auth");
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(Employee.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        EmployeeProjectionRepository employeeProjectionRepository(JdbcTemplate jdbcTemplate) {
+            return new EmployeeProjectionRepository(jdbcTemplate);
+        }
+    }
+}
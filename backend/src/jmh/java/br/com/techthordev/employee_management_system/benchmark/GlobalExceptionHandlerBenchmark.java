@@ -0,0 +1,69 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.exception.ApiError;
+import br.com.techthordev.employee_management_system.exception.GlobalExceptionHandler;
+import br.com.techthordev.employee_management_system.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error response construction in {@link GlobalExceptionHandler}, including creating
+ * the exception itself (stack trace capture dominates for 404s).
+ * Handler logging is switched off in src/jmh/resources/logback-test.xml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private MethodParameter parameter;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/api/v1/employees/42");
+        parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("target", EmployeeDTO.class), 0);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> resourceNotFound() {
+        return handler.handleResourceNotFound(
+                new ResourceNotFoundException("Employee not found with id 42"), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> validationFailed() {
+        BeanPropertyBindingResult result = new BeanPropertyBindingResult(new EmployeeDTO(), "employeeDTO");
+        result.addError(new FieldError("employeeDTO", "email", "Email must be a valid email address"));
+        result.addError(new FieldError("employeeDTO", "firstName", "First name must not be blank"));
+        return handler.handleValidationException(new MethodArgumentNotValidException(parameter, result), request);
+    }
+
+    @SuppressWarnings("unused")
+    private void target(EmployeeDTO employeeDTO) {
+        // signature only, used as the failing @Valid parameter
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.security.JwtAuthenticationFilter;
+import br.com.techthordev.employee_management_system.security.JwtTokenProvider;
+import br.com.techthordev.employee_management_system.security.TokenDenylist;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a Bearer token.
+ * <ul>
+ *     <li>{@code legacyTripleParse}: the previous filter logic, three full parses
+ *     with a fresh key and parser each (baseline)</li>
+ *     <li>{@code filterUncached}: the current filter, one parse per request</li>
+ *     <li>{@code filterCached}: the current filter with the verified-token cache warm</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    static final String SECRET =
+            "bc2cc717694d4c950af14d9d856d9da3183e133cf9312b0043d14a85025803ef" +
+            "7ea5ddfd2ebabd8add4f140e6da1bd1fde662c479f63326886b09f913720fac5";
+
+    private static final long EXPIRATION_MS = 3_600_000;
+
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        TokenDenylist denylist = new TokenDenylist(1024);
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, EXPIRATION_MS, 0, meterRegistry, denylist);
+        JwtTokenProvider cached = new JwtTokenProvider(SECRET, EXPIRATION_MS, 10_000, meterRegistry, denylist);
+
+        uncachedFilter = new JwtAuthenticationFilter(uncached);
+        cachedFilter = new JwtAuthenticationFilter(cached);
+
+        String token = cached.generateToken(User.withUsername("susan")
+                .password("n/a")
+                .authorities("ROLE_EMPLOYEE", "ROLE_MANAGER", "ROLE_ADMIN")
+                .build());
+        authorizationHeader = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        MockHttpServletRequest request = newRequest();
+        String jwt = request.getHeader("Authorization").substring(7);
+
+        String username = legacyParse(jwt).getSubject();
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (!legacyParse(jwt).getExpiration().before(new Date())) {
+                List<?> authorities = legacyParse(jwt).get("authorities", List.class);
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        username,
+                        null,
+                        authorities.stream().map(role -> new SimpleGrantedAuthority(role.toString())).toList()
+                );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+        }
+        return clearContext();
+    }
+
+    @Benchmark
+    public Object filterUncached() throws Exception {
+        uncachedFilter.doFilter(newRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        return clearContext();
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        cachedFilter.doFilter(newRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        return clearContext();
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees");
+        request.addHeader("Authorization", authorizationHeader);
+        return request;
+    }
+
+    private static Object clearContext() {
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.security.JwtTokenProvider;
+import br.com.techthordev.employee_management_system.security.TokenDenylist;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing (login) and full claims parsing (signature check + JSON) in {@link JwtTokenProvider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // no verified-token cache: every call pays for the full parse
+        provider = new JwtTokenProvider(JwtAuthenticationFilterBenchmark.SECRET, 3_600_000, 0,
+                new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), new TokenDenylist(1024));
+        user = User.withUsername("susan")
+                .password("n/a")
+                .authorities("ROLE_EMPLOYEE", "ROLE_MANAGER", "ROLE_ADMIN")
+                .build();
+        token = provider.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(user);
+    }
+
+    @Benchmark
+    public Object extractAllClaims() {
+        return provider.extractAuthorities(token);
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.config.JdbcSessionMetricsListener;
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the hot-path instrumentation, per call, against a Prometheus registry:
+ * <ul>
+ *     <li>{@code baseline}: the call without metrics</li>
+ *     <li>{@code timerRecord}: a histogram timer around the call (as in {@code JwtTokenProvider})</li>
+ *     <li>{@code timedAspect}: the call through a {@code @Timed} proxy (services, bulk repository)</li>
+ *     <li>{@code jdbcSessionListener}: a Hibernate session with three statements</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private PrometheusMeterRegistry meterRegistry;
+    private Lookup plain;
+    private Lookup timed;
+    private Timer timer;
+    private int id;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        Metrics.addRegistry(meterRegistry);
+
+        plain = new Lookup();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new Lookup());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new TimedAspect(meterRegistry));
+        timed = proxyFactory.getProxy();
+
+        timer = Timer.builder("benchmark.lookup.manual")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+        meterRegistry.close();
+    }
+
+    @Benchmark
+    public EmployeeDTO baseline() {
+        return plain.find(next());
+    }
+
+    @Benchmark
+    public EmployeeDTO timerRecord() {
+        int current = next();
+        return timer.record(() -> plain.find(current));
+    }
+
+    @Benchmark
+    public EmployeeDTO timedAspect() {
+        return timed.find(next());
+    }
+
+    @Benchmark
+    public JdbcSessionMetricsListener jdbcSessionListener() {
+        JdbcSessionMetricsListener listener = new JdbcSessionMetricsListener();
+        for (int i = 0; i < 3; i++) {
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+        }
+        listener.end();
+        return listener;
+    }
+
+    private int next() {
+        return id = (id + 1) & 1023;
+    }
+
+    public static class Lookup {
+
+        private final EmployeeDTO[] employees = new EmployeeDTO[1024];
+
+        public Lookup() {
+            for (int i = 0; i < employees.length; i++) {
+                employees[i] = new EmployeeDTO(i, "First" + i, "Last" + i, "employee" + i + "@techthordev.com.br");
+            }
+        }
+
+        @Timed(value = "benchmark.lookup", histogram = true)
+        public EmployeeDTO find(int id) {
+            return employees[id];
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.security.TokenDenylist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TokenDenylist#contains} as done for every authenticated request, with
+ * millions of revoked tokens. Lookups cycle through 4096 ids so they are not
+ * served from one hot cache line.
+ * <ul>
+ *     <li>{@code notRevoked}: the common case, a valid token that is not in the list</li>
+ *     <li>{@code revoked}: a token that is in the list</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class TokenDenylistBenchmark {
+
+    private static final int PROBES = 4096;
+
+    @Param({"1000000", "5000000"})
+    public int revokedTokens;
+
+    private TokenDenylist denylist;
+    private UUID[] revokedIds;
+    private UUID[] validIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        denylist = new TokenDenylist(1024);
+        revokedIds = new UUID[PROBES];
+        validIds = new UUID[PROBES];
+
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < revokedTokens; i++) {
+            UUID id = UUID.randomUUID();
+            denylist.add(id, expiresAt);
+            if (i < PROBES) {
+                revokedIds[i] = id;
+            }
+        }
+        for (int i = 0; i < PROBES; i++) {
+            validIds[i] = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return denylist.contains(validIds[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return denylist.contains(revokedIds[next++ & (PROBES - 1)]);
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.techthordev.employee_management_system.benchmark;
+
+import br.com.techthordev.employee_management_system.config.CacheConfig;
+import br.com.techthordev.employee_management_system.entity.Role;
+import br.com.techthordev.employee_management_system.entity.User;
+import br.com.techthordev.employee_management_system.repository.UserRepository;
+import br.com.techthordev.employee_management_system.security.CustomUserDetailsService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Login lookup in {@link CustomUserDetailsService}: user plus roles through JPA.
+ * <ul>
+ *     <li>{@code legacyEagerLookup}: the previous lookup, user query plus a second
+ *     select for the eager roles, new authorities each time (baseline)</li>
+ *     <li>{@code uncached}: one fetch-join query per login (cache disabled)</li>
+ *     <li>{@code cached}: served from the user cache</li>
+ * </ul>
+ * <p>
+ * Runs against an in-memory H2 database in PostgreSQL mode as a stand-in for auth.users,
+ * so the numbers show the ORM and mapping overhead, not network round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDetailsServiceBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private UserRepository userRepository;
+    private CustomUserDetailsService uncachedService;
+    private CustomUserDetailsService cachedService;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JpaConfig.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        RoleRepository roles = context.getBean(RoleRepository.class);
+        Role employee = roles.save(new Role(null, "ROLE_EMPLOYEE"));
+        Role manager = roles.save(new Role(null, "ROLE_MANAGER"));
+        Role admin = roles.save(new Role(null, "ROLE_ADMIN"));
+
+        userRepository.save(User.builder()
+                .username("susan")
+                .password("{noop}test123")
+                .enabled(true)
+                .roles(Set.of(employee, manager, admin))
+                .build());
+
+        uncachedService = new CustomUserDetailsService(userRepository, new NoOpCacheManager());
+        cachedService = new CustomUserDetailsService(userRepository, new ConcurrentMapCacheManager(CacheConfig.USERS));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails legacyEagerLookup() {
+        User user = userRepository.findByUsername("susan").orElseThrow();
+        return org.springframework.security.core.userdetails.User.builder()
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .disabled(!user.isEnabled())
+                .authorities(user.getRoles().stream()
+                        .map(role -> new SimpleGrantedAuthority(role.getName()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Benchmark
+    public UserDetails uncached() {
+        return uncachedService.loadUserByUsername("susan");
+    }
+
+    @Benchmark
+    public UserDetails cached() {
+        return cachedService.loadUserByUsername("susan");
+    }
+
+    public interface RoleRepository extends JpaRepository<Role, Long> {}
+
+    @Configuration
+    @EnableJpaRepositories(
+            basePackageClasses = {UserRepository.class, UserDetailsServiceBenchmark.class},
+            includeFilters = @ComponentScan.Filter(
+                    type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {UserRepository.class, RoleRepository.class}
+            ),
+            considerNestedRepositories = true
+    )
+    static class JpaConfig {
+
+        @Bean
+        DataSource dataSource() {
+            // pooled like production, so the benchmark does not measure connection setup
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS auth");
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            return dataSource;
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(User.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
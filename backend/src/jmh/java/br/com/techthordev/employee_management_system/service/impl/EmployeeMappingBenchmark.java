@@ -0,0 +1,53 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity / DTO mapping in {@link EmployeeServiceImpl}.
+ * Lives in the service package because the mappers are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMappingBenchmark {
+
+    private EmployeeServiceImpl service;
+    private Employee employee;
+    private EmployeeDTO dto;
+
+    @Setup
+    public void setUp() {
+        // mapping does not touch the repository or the suggestion index
+        service = new EmployeeServiceImpl(null, null, null, null, null, null);
+
+        employee = new Employee("Valentina", "Herrera", "valentina@techthordev.com.br");
+        employee.setId(4);
+        dto = new EmployeeDTO(4, "Valentina", "Herrera", "valentina@techthordev.com.br");
+    }
+
+    @Benchmark
+    public EmployeeDTO mapToDto() {
+        return service.mapToDto(employee);
+    }
+
+    @Benchmark
+    public Employee mapToEntity() {
+        return service.mapToEntity(dto);
+    }
+}
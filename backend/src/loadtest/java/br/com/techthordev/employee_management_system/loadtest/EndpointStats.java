@@ -0,0 +1,100 @@
+package br.com.techthordev.employee_management_system.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram (microseconds) and outcome counters of one endpoint.
+ * <p>
+ * Latency is measured from the <em>intended</em> send time of the fixed-rate
+ * schedule, so time a request spent waiting behind a slow server is included
+ * (no coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Operation operation;
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorsByCause = new ConcurrentHashMap<>();
+
+    EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    void recordResponse(long intendedStartNanos, int status) {
+        recordLatency(intendedStartNanos);
+        if (status >= 400) {
+            recordError(Integer.toString(status));
+        }
+    }
+
+    void recordFailure(long intendedStartNanos, Throwable failure) {
+        recordLatency(intendedStartNanos);
+        recordError(failure.getClass().getSimpleName());
+    }
+
+    /**
+     * The request was never sent because too many were still outstanding.
+     */
+    void recordDropped() {
+        requests.increment();
+        recordError("dropped");
+    }
+
+    private void recordLatency(long intendedStartNanos) {
+        requests.increment();
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        latency.recordValue(Math.min(Math.max(micros, 0), MAX_LATENCY_MICROS));
+    }
+
+    private void recordError(String cause) {
+        errors.increment();
+        errorsByCause.computeIfAbsent(cause, c -> new LongAdder()).increment();
+    }
+
+    Operation getOperation() {
+        return operation;
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    Histogram getLatency() {
+        return latency;
+    }
+
+    Map<String, Long> getErrorsByCause() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errorsByCause.forEach((cause, count) -> snapshot.put(cause, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Writes the full percentile distribution in milliseconds
+     * (HdrHistogram .hgrm format, plottable with the HdrHistogram plotter).
+     */
+    void writeHistogram(Path directory) throws IOException {
+        Path file = directory.resolve(operation.fileName() + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            latency.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package br.com.techthordev.employee_management_system.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator picking the endpoint of each request from the configured mix.
+ * <p>
+ * The open model sends requests at a fixed rate regardless of how fast responses
+ * come back. The closed model keeps a fixed number of connections busy, each on
+ * its own virtual thread, to measure how many concurrent clients the server copes with.
+ */
+final class LoadGenerator {
+
+    static final String USERNAME = "susan";
+    static final String PASSWORD = "fun123";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PAGE_SIZE = 20;
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final long minEmployeeId;
+    private final long maxEmployeeId;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private final Operation[] schedule;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong createdSequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private String token;
+
+    LoadGenerator(HttpClient client, URI baseUri, LoadTestConfig config, long minEmployeeId, long maxEmployeeId) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.config = config;
+        this.minEmployeeId = minEmployeeId;
+        this.maxEmployeeId = maxEmployeeId;
+        this.schedule = expand(config.mix());
+    }
+
+    /**
+     * Logs in once; the token is reused by every request of the run.
+     */
+    void login() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(Operation.LOGIN), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode());
+        }
+        JsonNode body = jsonMapper.readTree(response.body());
+        token = body.get("access_token").asString();
+    }
+
+    /**
+     * Runs the mix for the given time and waits for outstanding requests before returning.
+     */
+    Map<Operation, EndpointStats> run(Duration duration) throws InterruptedException {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : config.mix().keySet()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+
+        if (config.closedModel()) {
+            runClosed(duration, stats);
+        } else {
+            runOpen(duration, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Fixed rate of {@link LoadTestConfig#rate()} requests per second.
+     */
+    private void runOpen(Duration duration, Map<Operation, EndpointStats> stats) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            EndpointStats endpoint = stats.get(operation);
+
+            if (inFlight.get() >= config.maxInFlight()) {
+                endpoint.recordDropped();
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            client.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        inFlight.decrementAndGet();
+                        if (failure != null) {
+                            endpoint.recordFailure(intendedStart, failure);
+                        } else {
+                            endpoint.recordResponse(intendedStart, response.statusCode());
+                        }
+                    });
+        }
+
+        awaitInFlight();
+    }
+
+    /**
+     * {@link LoadTestConfig#concurrency()} clients, each sending requests back to back.
+     * Latency is the response time seen by the client.
+     */
+    private void runClosed(Duration duration, Map<Operation, EndpointStats> stats) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+
+        List<Thread> clients = new ArrayList<>(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            clients.add(Thread.ofVirtual().name("loadtest-client-" + i).start(() -> {
+                while (System.nanoTime() < end) {
+                    Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                    EndpointStats endpoint = stats.get(operation);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request(operation), HttpResponse.BodyHandlers.discarding());
+                        endpoint.recordResponse(start, response.statusCode());
+                    } catch (IOException ex) {
+                        endpoint.recordFailure(start, ex);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }));
+        }
+        for (Thread thread : clients) {
+            thread.join();
+        }
+    }
+
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return switch (operation) {
+            case LOGIN -> json(uri("/v1/auth/login"))
+                    .POST(body(Map.of("username", USERNAME, "password", PASSWORD)))
+                    .build();
+
+            case LIST -> {
+                int pages = Math.max(1, Math.min(50, config.employees() / PAGE_SIZE));
+                yield authorized(uri("/v1/employees?page=" + random.nextInt(pages)
+                        + "&size=" + PAGE_SIZE + "&sort=lastName,asc"))
+                        .GET()
+                        .build();
+            }
+
+            case GET -> authorized(uri("/v1/employees/" + randomEmployeeId(random)))
+                    .GET()
+                    .build();
+
+            case SEARCH -> {
+                var names = random.nextBoolean() ? LoadTestDatabase.FIRST_NAMES : LoadTestDatabase.LAST_NAMES;
+                String term = names.get(random.nextInt(names.size())).substring(0, 3).toLowerCase(Locale.ROOT);
+                yield authorized(uri("/v1/employees?search=" + URLEncoder.encode(term, StandardCharsets.UTF_8)
+                        + "&size=" + PAGE_SIZE))
+                        .GET()
+                        .build();
+            }
+
+            case CREATE -> authorized(uri("/v1/employees"))
+                    .POST(body(Map.of(
+                            "firstName", "Load",
+                            "lastName", "Test",
+                            "email", "lt" + runId + "-" + createdSequence.incrementAndGet() + "@loadtest.local"
+                    )))
+                    .build();
+
+            case UPDATE -> {
+                long id = randomEmployeeId(random);
+                yield authorized(uri("/v1/employees/" + id))
+                        .PUT(body(Map.of(
+                                "firstName", "Updated",
+                                "lastName", LoadTestDatabase.LAST_NAMES.get(random.nextInt(LoadTestDatabase.LAST_NAMES.size())),
+                                "email", LoadTestDatabase.seededEmail(id)
+                        )))
+                        .build();
+            }
+        };
+    }
+
+    private long randomEmployeeId(ThreadLocalRandom random) {
+        return random.nextLong(minEmployeeId, maxEmployeeId + 1);
+    }
+
+    private URI uri(String path) {
+        return baseUri.resolve(baseUri.getPath() + path);
+    }
+
+    private HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private HttpRequest.Builder authorized(URI uri) {
+        return json(uri).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.BodyPublisher body(Map<String, String> fields) {
+        return HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(fields));
+    }
+
+    /**
+     * Lookup table with one slot per weight unit, so picking an operation is one random index.
+     */
+    private static Operation[] expand(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Operation[] schedule = new Operation[total];
+        int index = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                schedule[index++] = entry.getKey();
+            }
+        }
+        return schedule;
+    }
+}
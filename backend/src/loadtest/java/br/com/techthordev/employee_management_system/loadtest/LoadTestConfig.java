@@ -0,0 +1,80 @@
+package br.com.techthordev.employee_management_system.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties
+ * (set by the {@code loadtest} Maven profile).
+ *
+ * @param employees  number of employees seeded before the application starts
+ * @param rate       requests per second, constant for the whole run (open model)
+ * @param concurrency when positive, run a closed model instead: this many connections,
+ *                    each sending its next request as soon as the previous one completed
+ * @param virtualThreads value for {@code spring.threads.virtual.enabled}, {@code null} keeps the application default
+ * @param warmup     unrecorded run before the measurement
+ * @param duration   recorded run
+ * @param mix        relative weight per operation
+ * @param maxInFlight requests allowed to be outstanding before new ones are dropped
+ * @param outputDir  where summary and histograms are written
+ */
+record LoadTestConfig(
+        int employees,
+        int rate,
+        int concurrency,
+        Boolean virtualThreads,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        Path outputDir
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.employees", 100_000),
+                rate,
+                Integer.getInteger("loadtest.concurrency", 0),
+                parseBoolean(System.getProperty("loadtest.virtual-threads")),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 15)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration", 60)),
+                parseMix(System.getProperty("loadtest.mix", "list=35,get=30,search=15,create=8,update=10,login=2")),
+                Integer.getInteger("loadtest.max-in-flight", Math.max(1_000, rate * 10)),
+                Path.of(System.getProperty("loadtest.output-dir", "target/loadtest"))
+        );
+    }
+
+    boolean closedModel() {
+        return concurrency > 0;
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return value == null || value.isBlank() ? null : Boolean.valueOf(value.trim());
+    }
+
+    /**
+     * Parses {@code operation=weight} pairs, e.g. {@code list=35,get=30}.
+     * Operations that are not listed are not executed.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one operation");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.techthordev.employee_management_system.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Throw-away PostgreSQL server for the load test.
+ * <p>
+ * Creates the {@code springconnector} role the migrations hand ownership to,
+ * applies {@code db/migration} with Flyway (including the R__testdata users)
+ * and bulk-seeds employees with e-mails derived from their id.
+ */
+final class LoadTestDatabase implements AutoCloseable {
+
+    static final String DATABASE = "employee_management";
+    static final String USERNAME = "springconnector";
+    static final String PASSWORD = "springconnector";
+
+    static final List<String> FIRST_NAMES = List.of(
+            "Lucas", "Sofia", "Mateo", "Valentina", "Diego", "Camila", "Andres", "Paula",
+            "Javier", "Natalia", "Martina", "Sebastian", "Isabella", "Tomas", "Lucia", "Gabriel"
+    );
+    static final List<String> LAST_NAMES = List.of(
+            "Martinez", "Ramirez", "Gonzalez", "Herrera", "Morales", "Rojas", "Vargas", "Castillo",
+            "Torres", "Silva", "Mendoza", "Ortega", "Navarro", "Delgado", "Fuentes", "Cabrera"
+    );
+
+    private final EmbeddedPostgres postgres;
+    private long minEmployeeId;
+    private long maxEmployeeId;
+
+    private LoadTestDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    static LoadTestDatabase start() throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "200")
+                .start();
+
+        JdbcTemplate admin = new JdbcTemplate(postgres.getPostgresDatabase());
+        admin.execute("CREATE ROLE " + USERNAME + " LOGIN PASSWORD '" + PASSWORD + "'");
+        admin.execute("CREATE DATABASE " + DATABASE + " OWNER " + USERNAME);
+
+        Flyway.configure()
+                .dataSource(postgres.getDatabase("postgres", DATABASE))
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        // R__testdata stores "{bcrypt}" hashes, SecurityConfig uses a plain BCryptPasswordEncoder
+        // (like database/data/05-auth-data.sql), so store the bare hash
+        new JdbcTemplate(postgres.getDatabase("postgres", DATABASE)).update(
+                "UPDATE auth.users SET password = substring(password FROM 9) WHERE password LIKE '{bcrypt}%'");
+
+        return new LoadTestDatabase(postgres);
+    }
+
+    /**
+     * Inserts {@code count} employees in one set-based statement.
+     * Ids are drawn from the sequence up front so that the e-mail can embed them,
+     * which lets updates keep the unique e-mail without reading the row first.
+     */
+    void seedEmployees(int count) {
+        JdbcTemplate jdbc = new JdbcTemplate(postgres.getDatabase(USERNAME, DATABASE));
+
+        jdbc.update("""
+                INSERT INTO public.employee (id, first_name, last_name, email)
+                SELECT s.id,
+                       (?::text[])[1 + s.g % ?],
+                       (?::text[])[1 + (s.g / ?) % ?],
+                       'employee' || s.id || '@loadtest.local'
+                FROM (
+                    SELECT g, nextval(pg_get_serial_sequence('public.employee', 'id')) AS id
+                    FROM generate_series(1, ?) AS g
+                ) AS s
+                """,
+                FIRST_NAMES.toArray(String[]::new), FIRST_NAMES.size(),
+                LAST_NAMES.toArray(String[]::new), FIRST_NAMES.size(), LAST_NAMES.size(),
+                count);
+        jdbc.execute("ANALYZE public.employee");
+
+        jdbc.query("SELECT min(id), max(id) FROM public.employee WHERE email LIKE 'employee%@loadtest.local'",
+                rs -> {
+                    minEmployeeId = rs.getLong(1);
+                    maxEmployeeId = rs.getLong(2);
+                });
+    }
+
+    String getJdbcUrl() {
+        return postgres.getJdbcUrl(USERNAME, DATABASE);
+    }
+
+    long getMinEmployeeId() {
+        return minEmployeeId;
+    }
+
+    long getMaxEmployeeId() {
+        return maxEmployeeId;
+    }
+
+    static String seededEmail(long id) {
+        return "employee" + id + "@loadtest.local";
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
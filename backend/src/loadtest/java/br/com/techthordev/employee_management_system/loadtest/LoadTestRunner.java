@@ -0,0 +1,210 @@
+package br.com.techthordev.employee_management_system.loadtest;
+
+import br.com.techthordev.employee_management_system.EmployeeManagementSystemApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test of the REST API: security filter chain, controllers and JPA
+ * against a real PostgreSQL, all in one process and without outside services.
+ * <ol>
+ *     <li>start an embedded PostgreSQL and apply {@code db/migration}</li>
+ *     <li>seed {@code loadtest.employees} employees</li>
+ *     <li>boot the application on a random port</li>
+ *     <li>log in, warm up, then run the mix at {@code loadtest.rate} requests per second,
+ *     or with {@code loadtest.concurrency} concurrent connections</li>
+ *     <li>print latency percentiles and error rates per endpoint and write them, together with
+ *     a scrape of {@code /actuator/prometheus}, to {@code loadtest.output-dir}</li>
+ * </ol>
+ * Run with {@code ./mvnw -Ploadtest test-compile exec:exec@loadtest}.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        // devtools would restart main() in a new class loader, seeding a second database
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Files.createDirectories(config.outputDir());
+
+        try (LoadTestDatabase database = LoadTestDatabase.start()) {
+            long seedStart = System.nanoTime();
+            database.seedEmployees(config.employees());
+            System.out.printf(Locale.ROOT, "Seeded %,d employees in %,d ms%n",
+                    config.employees(), Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+            int managementPort = freePort();
+            try (ConfigurableApplicationContext app = startApplication(database, config, managementPort);
+                 ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient client = HttpClient.newBuilder()
+                         .executor(executor)
+                         .connectTimeout(Duration.ofSeconds(5))
+                         .build()) {
+
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                URI baseUri = URI.create("http://localhost:" + port + "/api");
+
+                LoadGenerator generator = new LoadGenerator(
+                        client, baseUri, config, database.getMinEmployeeId(), database.getMaxEmployeeId());
+                generator.login();
+
+                String threads = app.getEnvironment().getProperty("spring.threads.virtual.enabled", "false");
+
+                System.out.printf(Locale.ROOT, "Warm-up: %s for %d s%n", load(config), config.warmup().toSeconds());
+                generator.run(config.warmup());
+
+                System.out.printf(Locale.ROOT, "Measuring: %s for %d s%n", load(config), config.duration().toSeconds());
+                Map<Operation, EndpointStats> stats = generator.run(config.duration());
+
+                report(config, threads, stats);
+                scrapeMetrics(client, URI.create("http://127.0.0.1:" + managementPort), config.outputDir());
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestDatabase database, LoadTestConfig config,
+                                                                   int managementPort) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", database.getJdbcUrl());
+        properties.put("spring.datasource.username", LoadTestDatabase.USERNAME);
+        properties.put("spring.datasource.password", LoadTestDatabase.PASSWORD);
+        // schema is owned by Flyway, see LoadTestDatabase
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("server.port", "0");
+        // a fixed port, the management security chain matches requests by it
+        properties.put("management.server.port", Integer.toString(managementPort));
+        properties.put("vaadin.launch-browser", "false");
+        if (config.virtualThreads() != null) {
+            properties.put("spring.threads.virtual.enabled", config.virtualThreads().toString());
+        }
+        if (config.closedModel()) {
+            // every client holds its own connection
+            properties.put("server.tomcat.max-connections", Integer.toString(config.concurrency() + 1_000));
+            properties.put("server.tomcat.accept-count", Integer.toString(config.concurrency()));
+        }
+
+        return new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Saves the server-side view of the run (route, service, repository, JDBC and JWT
+     * timings) from the Prometheus endpoint on the management port.
+     */
+    private static void scrapeMetrics(HttpClient client, URI managementUri, Path outputDir)
+            throws IOException, InterruptedException {
+        HttpResponse<Path> response = client.send(
+                HttpRequest.newBuilder(URI.create(managementUri + "/actuator/prometheus")).GET().build(),
+                HttpResponse.BodyHandlers.ofFile(outputDir.resolve("prometheus.txt")));
+        if (response.statusCode() != 200) {
+            System.out.println("Could not scrape /actuator/prometheus: status " + response.statusCode());
+        }
+    }
+
+    private static String load(LoadTestConfig config) {
+        return config.closedModel()
+                ? config.concurrency() + " concurrent connections"
+                : config.rate() + " req/s";
+    }
+
+    private static void report(LoadTestConfig config, String virtualThreads,
+                               Map<Operation, EndpointStats> stats) throws IOException {
+        Path summary = config.outputDir().resolve("summary.txt");
+        try (PrintStream file = new PrintStream(Files.newOutputStream(summary))) {
+            for (PrintStream out : new PrintStream[]{System.out, file}) {
+                printSummary(out, config, virtualThreads, stats);
+            }
+        }
+        for (EndpointStats endpoint : stats.values()) {
+            endpoint.writeHistogram(config.outputDir());
+        }
+        System.out.println("Results written to " + config.outputDir().toAbsolutePath());
+    }
+
+    private static void printSummary(PrintStream out, LoadTestConfig config, String virtualThreads,
+                                     Map<Operation, EndpointStats> stats) {
+        double seconds = config.duration().toMillis() / 1000.0;
+
+        out.printf(Locale.ROOT, "%nEmployees: %,d | load: %s | virtual threads: %s | duration: %d s%n",
+                config.employees(), load(config), virtualThreads, config.duration().toSeconds());
+        out.printf(Locale.ROOT, config.closedModel()
+                ? "Latency in ms, response time per request%n%n"
+                : "Latency in ms, measured from the scheduled send time%n%n");
+        out.printf(Locale.ROOT, "%-28s %9s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "error %", "p50", "p90", "p99", "p99.9", "max");
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        Histogram total = null;
+
+        for (EndpointStats endpoint : stats.values()) {
+            printRow(out, endpoint.getOperation().getEndpoint(), endpoint.getRequests(), endpoint.getErrors(),
+                    endpoint.getLatency(), seconds);
+            totalRequests += endpoint.getRequests();
+            totalErrors += endpoint.getErrors();
+            if (total == null) {
+                total = endpoint.getLatency().copy();
+            } else {
+                total.add(endpoint.getLatency());
+            }
+        }
+        if (total != null) {
+            printRow(out, "total", totalRequests, totalErrors, total, seconds);
+        }
+
+        for (EndpointStats endpoint : stats.values()) {
+            if (endpoint.getErrors() > 0) {
+                out.printf(Locale.ROOT, "%nErrors %s: %s", endpoint.getOperation().getEndpoint(),
+                        endpoint.getErrorsByCause());
+            }
+        }
+        out.println();
+    }
+
+    private static void printRow(PrintStream out, String name, long requests, long errors,
+                                 Histogram latency, double seconds) {
+        out.printf(Locale.ROOT, "%-28s %9d %8.1f %8d %8.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                requests,
+                requests / seconds,
+                errors,
+                requests == 0 ? 0.0 : errors * 100.0 / requests,
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
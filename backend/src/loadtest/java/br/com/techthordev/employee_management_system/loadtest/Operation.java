@@ -0,0 +1,30 @@
+package br.com.techthordev.employee_management_system.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Endpoints exercised by the load test. Each one is reported separately.
+ */
+enum Operation {
+
+    LOGIN("POST /v1/auth/login"),
+    LIST("GET /v1/employees"),
+    GET("GET /v1/employees/{id}"),
+    SEARCH("GET /v1/employees?search="),
+    CREATE("POST /v1/employees"),
+    UPDATE("PUT /v1/employees/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    String fileName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
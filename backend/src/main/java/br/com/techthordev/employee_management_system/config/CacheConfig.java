@@ -0,0 +1,20 @@
+package br.com.techthordev.employee_management_system.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Spring cache abstraction.
+ * <p>
+ * Caffeine is configured through {@code spring.cache.*} in application.properties;
+ * hit, miss and eviction statistics are published as {@code cache.*} metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES = "employees";
+
+    public static final String USERS = "users";
+
+}
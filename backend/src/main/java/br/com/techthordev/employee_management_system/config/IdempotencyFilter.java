@@ -0,0 +1,363 @@
+package br.com.techthordev.employee_management_system.config;
+
+import br.com.techthordev.employee_management_system.dto.IdempotentResponse;
+import br.com.techthordev.employee_management_system.exception.ApiError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@code Idempotency-Key} support for the employee write endpoints.
+ * <p>
+ * The first request with a key runs normally and its response is kept in the
+ * {@link IdempotencyStore}. A retry with the same key (same user, method and path)
+ * gets that response back without touching the service or the database, marked
+ * with {@code Idempotent-Replayed: true}. A duplicate arriving while the first one
+ * is still running waits for it, up to {@code idempotency.wait-timeout}, then 409.
+ * The same key with a different body is a 422. Server errors are not stored, the
+ * next retry runs again. A response over {@code idempotency.max-response-size} is
+ * not kept either, but the key is: retries get a 409 naming the original status,
+ * the request never runs twice.
+ * <p>
+ * Runs after the security filter chain, so the key is scoped to the authenticated user.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // POST endpoints that write; relative to the context path
+    private static final Set<String> PATHS = Set.of(
+            "/v1/employees",
+            "/v1/employees/import",
+            "/v1/employees/batch-update",
+            "/v1/employees/batch-delete"
+    );
+
+    private final IdempotencyStore store;
+    private final JsonMapper jsonMapper;
+    private final Duration waitTimeout;
+    private final long maxResponseSize;
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            JsonMapper jsonMapper,
+            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+            @Value("${idempotency.max-response-size:1MB}") DataSize maxResponseSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.jsonMapper = jsonMapper;
+        this.waitTimeout = waitTimeout;
+        this.maxResponseSize = maxResponseSize.toBytes();
+
+        this.executed = requestCounter(meterRegistry, "executed");
+        this.replayed = requestCounter(meterRegistry, "replayed");
+        this.rejected = requestCounter(meterRegistry, "rejected");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("http.idempotency")
+                .description("Requests with an Idempotency-Key, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String key = request.getHeader(IDEMPOTENCY_KEY);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            rejected.increment();
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        String scope = scope(request, key);
+        DigestingRequest digestingRequest = new DigestingRequest(request);
+
+        while (true) {
+            IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+            IdempotencyStore.Entry first = store.claim(scope, entry);
+            if (first == null) {
+                execute(digestingRequest, response, filterChain, scope, entry);
+                return;
+            }
+
+            IdempotentResponse stored;
+            try {
+                stored = first.await(waitTimeout);
+            } catch (TimeoutException ex) {
+                rejected.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "A request with this " + IDEMPOTENCY_KEY + " is still being processed");
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while waiting for a duplicate request", ex);
+            }
+
+            if (stored != null) {
+                replay(digestingRequest, response, stored);
+                return;
+            }
+            // the first attempt was abandoned: take it over
+        }
+    }
+
+    // -------------------- EXECUTE / REPLAY --------------------
+
+    private void execute(
+            DigestingRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            String scope,
+            IdempotencyStore.Entry entry
+    ) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper caching = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, caching);
+
+            int status = caching.getStatus();
+            // 5xx and 429 are transient, a retry has to run again
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                IdempotentResponse result = caching.getContentSize() <= maxResponseSize
+                        ? new IdempotentResponse(
+                                request.digest(),
+                                status,
+                                caching.getContentType(),
+                                caching.getHeader(HttpHeaders.ETAG),
+                                caching.getHeader(HttpHeaders.LOCATION),
+                                caching.getContentAsByteArray())
+                        : notReplayable(request, status, caching.getContentSize());
+                store.complete(scope, entry, result);
+                stored = true;
+            }
+            executed.increment();
+        } finally {
+            if (!stored) {
+                store.abandon(scope, entry);
+            }
+        }
+        caching.copyBodyToResponse();
+    }
+
+    private void replay(
+            DigestingRequest request,
+            HttpServletResponse response,
+            IdempotentResponse stored
+    ) throws IOException {
+
+        if (!MessageDigest.isEqual(request.digest(), stored.requestHash())) {
+            rejected.increment();
+            writeError(request, response, HttpStatus.UNPROCESSABLE_CONTENT,
+                    IDEMPOTENCY_KEY + " was already used with a different request body");
+            return;
+        }
+
+        replayed.increment();
+        response.setStatus(stored.status());
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.eTag());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * Stands in for a response too large to keep: the request ran, so a retry must not
+     * run it again, but it cannot get the original body either.
+     */
+    private IdempotentResponse notReplayable(DigestingRequest request, int status, int size) throws IOException {
+        HttpStatus conflict = HttpStatus.CONFLICT;
+        byte[] body = jsonMapper.writeValueAsBytes(new ApiError(
+                conflict.value(),
+                conflict.getReasonPhrase(),
+                "The request with this " + IDEMPOTENCY_KEY + " was already processed with status " + status
+                        + "; its response (" + size + " bytes) is too large to replay",
+                request.getRequestURI(),
+                null
+        ));
+        return new IdempotentResponse(
+                request.digest(), conflict.value(), MediaType.APPLICATION_JSON_VALUE, null, null, body);
+    }
+
+    private void writeError(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            HttpStatus status,
+            String message
+    ) throws IOException {
+        ApiError error = new ApiError(
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI(),
+                null
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String scope(HttpServletRequest request, String key) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String user = authentication == null ? "" : authentication.getName();
+        // NUL cannot appear in a header or a username, so parts cannot run into each other
+        return user + '\0' + request.getMethod() + '\0' + request.getRequestURI() + '\0' + key;
+    }
+
+    // -------------------- REQUEST BODY DIGEST --------------------
+
+    /**
+     * Hashes the body while the handler reads it, without buffering it: imports stream
+     * uploads of any size. Whatever the handler leaves unread is hashed by {@link #digest()}.
+     */
+    private static final class DigestingRequest extends HttpServletRequestWrapper {
+
+        private final MessageDigest messageDigest;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+        private byte[] digest;
+
+        DigestingRequest(HttpServletRequest request) {
+            super(request);
+            try {
+                this.messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 not available", ex);
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new DigestingInputStream(super.getInputStream(), messageDigest);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+
+        byte[] digest() throws IOException {
+            if (digest == null) {
+                ServletInputStream in = getInputStream();
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) != -1) {
+                    // hashed by DigestingInputStream
+                }
+                digest = messageDigest.digest();
+            }
+            return digest;
+        }
+    }
+
+    private static final class DigestingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final MessageDigest messageDigest;
+
+        DigestingInputStream(ServletInputStream delegate, MessageDigest messageDigest) {
+            this.delegate = delegate;
+            this.messageDigest = messageDigest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                messageDigest.update((byte) b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0) {
+                messageDigest.update(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
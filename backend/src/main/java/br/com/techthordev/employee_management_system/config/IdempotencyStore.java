@@ -0,0 +1,180 @@
+package br.com.techthordev.employee_management_system.config;
+
+import br.com.techthordev.employee_management_system.dto.IdempotentResponse;
+import br.com.techthordev.employee_management_system.repository.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Recent Idempotency-Key scopes and their responses.
+ * <p>
+ * A scope is claimed before the request runs, so a concurrent duplicate finds the
+ * claim and waits for its response instead of running again. Claims of running
+ * requests are held in a plain map until they complete or are abandoned, they are
+ * never evicted. Completed responses go into a cache bounded by the size of their
+ * bodies ({@code idempotency.max-memory}) and kept for {@code idempotency.ttl}; a
+ * retry after its response was evicted runs again.
+ * <p>
+ * With {@code idempotency.jdbc.enabled} responses are also written to
+ * public.idempotency_keys and looked up there on a miss. The table only serves
+ * replays of completed requests: claims are not shared, so concurrent duplicates
+ * are only collapsed within one instance.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    // key, headers and bookkeeping of one entry, roughly
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private final ConcurrentMap<String, Entry> running = new ConcurrentHashMap<>();
+    private final Cache<String, IdempotentResponse> completed;
+    private final IdempotencyKeyRepository repository;
+    private final boolean jdbcEnabled;
+    private final Duration ttl;
+
+    private volatile Instant nextPurge = Instant.MIN;
+
+    public IdempotencyStore(
+            IdempotencyKeyRepository repository,
+            @Value("${idempotency.max-memory:64MB}") DataSize maxMemory,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.jdbc.enabled:false}") boolean jdbcEnabled
+    ) {
+        this.repository = repository;
+        this.jdbcEnabled = jdbcEnabled;
+        this.ttl = ttl;
+        this.completed = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((String scope, IdempotentResponse response) -> ENTRY_OVERHEAD + response.body().length)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Claims a scope for {@code entry}.
+     *
+     * @return {@code null} if the caller now owns the scope and has to run the request,
+     * otherwise the entry (running or completed) of the request that got there first
+     */
+    public Entry claim(String scope, Entry entry) {
+        Entry existing = running.putIfAbsent(scope, entry);
+        if (existing != null) {
+            return existing;
+        }
+
+        // holding the claim: a duplicate arriving now waits for this lookup
+        IdempotentResponse stored;
+        try {
+            stored = findCompleted(scope);
+        } catch (RuntimeException ex) {
+            abandon(scope, entry);
+            throw ex;
+        }
+        if (stored == null) {
+            return null;
+        }
+        running.remove(scope, entry);
+        entry.result.complete(stored);
+        return entry;
+    }
+
+    private IdempotentResponse findCompleted(String scope) {
+        IdempotentResponse stored = completed.getIfPresent(scope);
+        if (stored == null && jdbcEnabled) {
+            // answered before a restart or by another instance
+            stored = repository.find(hash(scope)).orElse(null);
+            if (stored != null) {
+                completed.put(scope, stored);
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * Stores the response of an owned scope and hands it to waiting duplicates.
+     */
+    public void complete(String scope, Entry entry, IdempotentResponse response) {
+        // stored before the claim is released, so the next claim finds it
+        completed.put(scope, response);
+        running.remove(scope, entry);
+        entry.result.complete(response);
+
+        if (jdbcEnabled) {
+            try {
+                repository.insert(hash(scope), response, Instant.now().plus(ttl));
+                purgeExpiredIfDue();
+            } catch (DataAccessException ex) {
+                // the response was sent and is replayed from memory; only the durable copy is missing
+                logger.warn("Could not store idempotent response: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Releases an owned scope without a response (server error, 429):
+     * the next attempt runs the request again. Waiting duplicates retry the claim.
+     */
+    public void abandon(String scope, Entry entry) {
+        running.remove(scope, entry);
+        entry.result.complete(null);
+    }
+
+    private void purgeExpiredIfDue() {
+        if (Instant.now().isBefore(nextPurge)) {
+            return;
+        }
+        nextPurge = Instant.now().plus(ttl.dividedBy(24));
+        int deleted = repository.deleteExpired();
+        if (deleted > 0) {
+            logger.info("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+
+    private static byte[] hash(String scope) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(scope.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * One claimed scope; completes with the response, or with {@code null} if abandoned.
+     */
+    public static final class Entry {
+
+        private final CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+
+        /**
+         * @throws TimeoutException if the owning request is still running after {@code timeout}
+         */
+        public IdempotentResponse await(Duration timeout) throws TimeoutException, InterruptedException {
+            try {
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException ex) {
+                // never completed exceptionally
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+    }
+}
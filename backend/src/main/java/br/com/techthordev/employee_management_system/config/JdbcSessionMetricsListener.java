@@ -0,0 +1,64 @@
+package br.com.techthordev.employee_management_system.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.SessionEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts and times the JDBC statements of one Hibernate session. With open-in-view
+ * a session spans one HTTP request, so this yields queries per request.
+ * <p>
+ * Registered through {@code hibernate.session.events.auto}; Hibernate creates one
+ * instance per session, so meters go to the Micrometer global registry that
+ * Spring Boot adds its registries to.
+ */
+public class JdbcSessionMetricsListener implements SessionEventListener {
+
+    private static final DistributionSummary STATEMENTS = DistributionSummary.builder("hibernate.session.statements")
+            .description("JDBC statements executed per Hibernate session")
+            .publishPercentileHistogram()
+            .maximumExpectedValue(1_000.0)
+            .register(Metrics.globalRegistry);
+
+    private static final Timer EXECUTION = Timer.builder("hibernate.session.execution")
+            .description("Time spent executing JDBC statements per Hibernate session")
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+
+    private int statements;
+    private long executionNanos;
+    private long statementStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements++;
+        executionNanos += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statements++;
+        executionNanos += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void end() {
+        if (statements > 0) {
+            STATEMENTS.record(statements);
+            EXECUTION.record(executionNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
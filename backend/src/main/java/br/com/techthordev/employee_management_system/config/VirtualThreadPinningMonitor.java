@@ -0,0 +1,110 @@
+package br.com.techthordev.employee_management_system.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread
+ * (active with {@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * A pinned virtual thread blocks its carrier, so enough of them at once starve
+ * every other request. Pinning is detected with the JFR {@code jdk.VirtualThreadPinned}
+ * event; each distinct call site is logged with its stack on the 1st, 10th, 100th, …
+ * occurrence. The {@code jvm.threads.virtual.pinned} metric counts all of them.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Map<String, AtomicLong> occurrences = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${virtual-threads.pinned-threshold:20ms}") Duration threshold
+    ) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        int jdk = Runtime.version().feature();
+        logger.info("Virtual threads enabled (JDK {}), SecurityContextHolder strategy {}, pinning threshold {} ms",
+                jdk, SecurityContextHolder.getContextHolderStrategy().getClass().getSimpleName(),
+                threshold.toMillis());
+        if (jdk < 24) {
+            // JEP 491: before JDK 24 every synchronized block (JDBC driver, pools, ...) pins
+            logger.warn("JDK {} pins virtual threads inside synchronized blocks, run on JDK 24+", jdk);
+        }
+
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+
+        long count = occurrences.computeIfAbsent(stack, s -> new AtomicLong()).incrementAndGet();
+        if (isPowerOfTen(count)) {
+            logger.warn("Virtual thread pinned for {} ms ({}), {} time(s) at this site:\n{}",
+                    event.getDuration().toMillis(),
+                    event.hasField("pinnedReason") ? event.getString("pinnedReason") : "unknown reason",
+                    count, stack);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+
+    private static boolean isPowerOfTen(long value) {
+        while (value >= 10 && value % 10 == 0) {
+            value /= 10;
+        }
+        return value == 1;
+    }
+}
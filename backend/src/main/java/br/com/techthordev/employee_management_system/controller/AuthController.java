@@ -1,12 +1,12 @@
 package br.com.techthordev.employee_management_system.controller;
 
 import br.com.techthordev.employee_management_system.dto.AuthRequest;
+import br.com.techthordev.employee_management_system.dto.RefreshRequest;
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
 import br.com.techthordev.employee_management_system.security.JwtTokenProvider;
-import jakarta.servlet.http.HttpServletResponse;
+import br.com.techthordev.employee_management_system.security.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,6 +23,7 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping(value = "/login", consumes = {
             MediaType.APPLICATION_JSON_VALUE,
@@ -42,28 +43,33 @@ public class AuthController {
                 new UsernamePasswordAuthenticationToken(finalUsername, finalPassword)
         );
 
-        // 2. Generate Token
+        // 2. Generate Tokens (short-lived access token, refresh token starts a new family)
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String token = jwtTokenProvider.generateToken(userDetails);
+        RefreshTokenService.RefreshToken refreshToken = refreshTokenService.issue(userDetails.getUsername());
 
         // 3. Return in a format Swagger understands
-        // Swagger looks for "access_token" to automatically fill the Bearer header
-        return ResponseEntity.ok(Map.of(
-                "access_token", token,
-                "token_type", "Bearer"
-        ));
+        return ResponseEntity.ok(tokenResponse(userDetails, refreshToken));
     }
 
-    @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletResponse response) {
-        // Clear the JWT cookie by setting maxAge to 0
-        ResponseCookie cookie = ResponseCookie.from("jwt_token", "")
-                .httpOnly(true)
-                .path("/")
-                .maxAge(0)
-                .build();
-        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    @PostMapping(value = "/refresh", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest refreshRequest) {
+        if (refreshRequest.refreshToken() == null || refreshRequest.refreshToken().isBlank()) {
+            throw new BadRequestException("refresh_token is required");
+        }
 
-        return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
+        // The presented token is used up; a second use revokes the whole family
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshRequest.refreshToken());
+        return ResponseEntity.ok(tokenResponse(rotation.user(), rotation.refreshToken()));
     }
-}
\ No newline at end of file
+
+    private Map<String, Object> tokenResponse(UserDetails userDetails, RefreshTokenService.RefreshToken refreshToken) {
+        // Swagger looks for "access_token" to automatically fill the Bearer header;
+        // the access token names the refresh token family, so logout revokes both
+        return Map.of(
+                "access_token", jwtTokenProvider.generateToken(userDetails, refreshToken.familyId()),
+                "token_type", "Bearer",
+                "expires_in", jwtTokenProvider.getExpirationSeconds(),
+                "refresh_token", refreshToken.value()
+        );
+    }
+}
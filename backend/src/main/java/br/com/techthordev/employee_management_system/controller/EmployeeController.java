@@ -1,9 +1,26 @@
 package br.com.techthordev.employee_management_system.controller;
 
 import br.com.techthordev.employee_management_system.config.ApiVersion;
+import br.com.techthordev.employee_management_system.dto.BatchReport;
+import br.com.techthordev.employee_management_system.dto.CursorPage;
+import br.com.techthordev.employee_management_system.dto.EmployeeBatchUpdate;
 import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.EmployeeField;
+import br.com.techthordev.employee_management_system.dto.EmployeeLookup;
+import br.com.techthordev.employee_management_system.dto.EmployeePatch;
+import br.com.techthordev.employee_management_system.dto.EmployeeSuggestionDTO;
+import br.com.techthordev.employee_management_system.dto.ImportReport;
+import br.com.techthordev.employee_management_system.dto.SlicePage;
 import br.com.techthordev.employee_management_system.exception.ApiError;
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import br.com.techthordev.employee_management_system.exception.PreconditionFailedException;
+import br.com.techthordev.employee_management_system.service.EmployeeBatchService;
+import br.com.techthordev.employee_management_system.service.EmployeeChangeFeed;
+import br.com.techthordev.employee_management_system.service.EmployeeExportService;
+import br.com.techthordev.employee_management_system.service.EmployeeFileFormat;
+import br.com.techthordev.employee_management_system.service.EmployeeImportService;
 import br.com.techthordev.employee_management_system.service.EmployeeService;
+import br.com.techthordev.employee_management_system.service.TotalMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -12,12 +29,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/employees")
@@ -28,10 +59,27 @@ import org.springframework.web.bind.annotation.*;
 )
 public class EmployeeController {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    // allow the browser to keep a copy, but revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeBatchService employeeBatchService;
+    private final EmployeeChangeFeed employeeChangeFeed;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService,
+                              EmployeeImportService employeeImportService,
+                              EmployeeExportService employeeExportService,
+                              EmployeeBatchService employeeBatchService,
+                              EmployeeChangeFeed employeeChangeFeed) {
         this.employeeService = employeeService;
+        this.employeeImportService = employeeImportService;
+        this.employeeExportService = employeeExportService;
+        this.employeeBatchService = employeeBatchService;
+        this.employeeChangeFeed = employeeChangeFeed;
     }
 
     // -------------------- GET ALL --------------------
@@ -41,9 +89,20 @@ public class EmployeeController {
             description = """
                     Returns a paginated list of employees.
                     Supports pagination and dynamic sorting via query parameters.
+                    When `search` is given, employees are filtered by a case-insensitive
+                    substring match on first name, last name or email and ordered by relevance.
+                    `total` selects how `totalElements` is computed: `estimate` (default) from
+                    PostgreSQL statistics, `exact` with a count query, or `none` (only `hasNext`).
+                    On the last page the total is always exact.
+                    `fields` (e.g. `id,lastName`) selects only those columns; nothing else is read.
+                    The response carries a weak ETag that changes with every write to the table;
+                    send it back in `If-None-Match` to get 304 without a query.
                     """
     )
     @Parameters({
+            @Parameter(name = "search", description = "Optional search term (name or email)", example = "silva"),
+            @Parameter(name = "total", description = "none, estimate or exact", example = "estimate"),
+            @Parameter(name = "fields", description = "Optional subset of id, firstName, lastName, email", example = "id,lastName"),
             @Parameter(name = "page", description = "Zero-based page index", example = "0"),
             @Parameter(name = "size", description = "Number of records per page", example = "20"),
             @Parameter(
@@ -60,20 +119,142 @@ public class EmployeeController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = EmployeeDTO.class)
                     )
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag")
     })
     @GetMapping
-    public ResponseEntity<Page<EmployeeDTO>> getAllEmployees(
-            @Parameter(hidden = true) Pageable pageable
+    public ResponseEntity<SlicePage<?>> getAllEmployees(
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "estimate") String total,
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) Pageable pageable,
+            WebRequest webRequest
+    ) {
+        TotalMode totalMode = TotalMode.fromName(total);
+        Set<EmployeeField> selected = fields == null ? null : EmployeeField.parse(fields);
+
+        // read the counter before the page, a write in between only causes a spurious 200 later
+        String etag = listETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        SlicePage<?> page = selected == null
+                ? employeeService.getEmployeePage(search, pageable, totalMode)
+                : employeeService.getEmployeeFields(search, pageable, totalMode, selected);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(page);
+    }
+
+    // -------------------- GET ALL (KEYSET) --------------------
+
+    @Operation(
+            summary = "Scroll through employees with a continuation cursor",
+            description = """
+                    Keyset (seek) pagination: selected by the presence of the `cursor` parameter.
+                    Send an empty `cursor` for the first window, then pass `nextCursor` back
+                    unchanged together with the same `sort`. No count query is executed and
+                    latency does not depend on how deep the client has scrolled.
+                    Conditional requests work as for the paginated list.
+                    `fields` (e.g. `id,lastName`) returns only those properties of each employee.
+                    """
+    )
+    @Parameters({
+            @Parameter(name = "cursor", description = "Opaque continuation token (empty for the first window)", example = ""),
+            @Parameter(name = "fields", description = "Optional subset of id, firstName, lastName, email", example = "id,lastName"),
+            @Parameter(name = "size", description = "Number of records per window", example = "20"),
+            @Parameter(
+                    name = "sort",
+                    description = "Sorting criteria: property,(asc|desc); id is always appended as tie-breaker",
+                    example = "lastName,asc"
+            )
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Employees retrieved successfully"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            ),
+            @ApiResponse(responseCode = "304", description = "Window unchanged since the given ETag")
+    })
+    @GetMapping(params = {"cursor", "!ids"})
+    public ResponseEntity<CursorPage<?>> scrollEmployees(
+            @RequestParam String cursor,
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) Pageable pageable,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(employeeService.getAllEmployees(pageable));
+        Set<EmployeeField> selected = fields == null ? null : EmployeeField.parse(fields);
+
+        String etag = listETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        CursorPage<EmployeeDTO> window = employeeService.scrollEmployees(cursor, pageable.getPageSize(), pageable.getSort());
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(selected == null ? window : new CursorPage<>(
+                EmployeeField.project(window.content(), selected), window.size(), window.hasNext(), window.nextCursor()
+        ));
+    }
+
+    // -------------------- CHANGES --------------------
+
+    @Operation(
+            summary = "Stream employee changes (Server-Sent Events)",
+            description = """
+                    Pushes `created`, `updated` and `deleted` events as employees are written,
+                    so clients can stop polling the list. Reconnecting with `Last-Event-ID`
+                    replays the missed events from a bounded buffer; if they are no longer
+                    buffered, a `reset` event tells the client to fetch its data again.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return employeeChangeFeed.subscribe(lastEventId);
+    }
+
+    // -------------------- SUGGEST --------------------
+
+    @Operation(
+            summary = "Autocomplete employees by name or email prefix",
+            description = """
+                    Served from an in-memory prefix index, no database round trip.
+                    Matches first name, last name or email starting with `q` (case-insensitive).
+                    """
+    )
+    @Parameters({
+            @Parameter(name = "q", description = "Prefix to complete", example = "mar"),
+            @Parameter(name = "limit", description = "Maximum number of suggestions (1-50)", example = "10")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EmployeeSuggestionDTO>> suggestEmployees(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(employeeService.suggestEmployees(q, Math.clamp(limit, 1, 50)));
     }
 
     // -------------------- GET BY ID --------------------
 
-    @Operation(summary = "Get employee by ID")
+    @Operation(
+            summary = "Get employee by ID",
+            description = """
+                    The strong ETag is the row version. With a matching `If-None-Match`
+                    the answer is 304, served from the employee cache without serializing the body.
+                    `fields` (e.g. `id,email`) returns only those properties of the cached employee.
+                    """
+    )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Employee retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Employee unchanged since the given ETag"),
             @ApiResponse(
                     responseCode = "404",
                     description = "Employee not found",
@@ -81,8 +262,18 @@ public class EmployeeController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDTO> getEmployeeById(@PathVariable Integer id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public ResponseEntity<?> getEmployeeById(
+            @PathVariable Integer id,
+            @Parameter(description = "Optional subset of id, firstName, lastName, email", example = "id,email")
+            @RequestParam(required = false) String fields
+    ) {
+        Set<EmployeeField> selected = fields == null ? null : EmployeeField.parse(fields);
+        EmployeeDTO employee = employeeService.getEmployeeById(id);
+        // HttpEntityMethodProcessor answers a matching If-None-Match with 304 before writing the body
+        return ResponseEntity.ok()
+                .eTag(versionETag(employee))
+                .cacheControl(REVALIDATE)
+                .body(selected == null ? employee : EmployeeField.project(employee, selected));
     }
 
     // -------------------- CREATE --------------------
@@ -101,12 +292,82 @@ public class EmployeeController {
             @Valid @RequestBody EmployeeDTO employeeDTO
     ) {
         EmployeeDTO created = employeeService.createEmployee(employeeDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(versionETag(created)).body(created);
+    }
+
+    // -------------------- BULK IMPORT --------------------
+
+    @Operation(
+            summary = "Bulk import employees from CSV or NDJSON",
+            description = """
+                    Streams the request body row by row; the upload is never buffered as a whole.
+                    CSV needs a header line with firstName, lastName and email columns.
+                    NDJSON expects one employee JSON object per line.
+                    Rows are validated like POST /employees and written in batches.
+                    The response reports every rejected row by line number.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished, see report for rejected rows"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid CSV header",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @PostMapping(value = "/import", consumes = {EmployeeFileFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportReport> importEmployees(HttpServletRequest request) throws IOException {
+        EmployeeFileFormat format = EmployeeFileFormat.fromContentType(request.getContentType());
+        return ResponseEntity.ok(employeeImportService.importEmployees(request.getInputStream(), format));
+    }
+
+    // -------------------- EXPORT --------------------
+
+    @Operation(
+            summary = "Export all employees as CSV or NDJSON",
+            description = """
+                    Streams the whole table from a database cursor directly into the response,
+                    in bounded memory and without a count query.
+                    With `gzip=true` the body is sent with `Content-Encoding: gzip`.
+                    """
+    )
+    @Parameters({
+            @Parameter(name = "format", description = "csv or ndjson", example = "csv"),
+            @Parameter(name = "gzip", description = "Compress the response body", example = "false")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    })
+    @GetMapping("/export")
+    public void exportEmployees(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        EmployeeFileFormat fileFormat = EmployeeFileFormat.fromName(format);
+
+        response.setContentType(fileFormat.getMediaType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("employees." + fileFormat.getExtension())
+                .build()
+                .toString());
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (OutputStream out = new GZIPOutputStream(response.getOutputStream(), 64 * 1024)) {
+                employeeExportService.exportEmployees(out, fileFormat);
+            }
+        } else {
+            employeeExportService.exportEmployees(response.getOutputStream(), fileFormat);
+        }
     }
 
     // -------------------- UPDATE --------------------
 
-    @Operation(summary = "Update an existing employee")
+    @Operation(
+            summary = "Update an existing employee",
+            description = "With `If-Match` the update is only applied if the employee still has that ETag."
+    )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Employee updated successfully"),
             @ApiResponse(
@@ -118,30 +379,234 @@ public class EmployeeController {
                     responseCode = "404",
                     description = "Employee not found",
                     content = @Content(schema = @Schema(implementation = ApiError.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Employee modified concurrently",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current ETag",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
             )
     })
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeDTO> updateEmployee(
             @PathVariable Integer id,
-            @Valid @RequestBody EmployeeDTO employeeDTO
+            @Valid @RequestBody EmployeeDTO employeeDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(employeeService.updateEmployee(id, employeeDTO));
+        EmployeeDTO updated = employeeService.updateEmployee(id, employeeDTO, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(versionETag(updated)).body(updated);
+    }
+
+    // -------------------- PATCH --------------------
+
+    @Operation(
+            summary = "Partially update an employee (JSON Merge Patch)",
+            description = """
+                    Only the members present in the body are validated and written; absent members
+                    keep their value and `null` is rejected since every field is required.
+                    A patch that changes nothing does not write and returns the current employee.
+                    With `If-Match` the patch is only applied if the employee still has that ETag.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Employee patched (or already up to date)"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid patch",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Employee not found",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current ETag",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<EmployeeDTO> patchEmployee(
+            @PathVariable Integer id,
+            @Valid @RequestBody EmployeePatch patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        EmployeeDTO patched = employeeService.patchEmployee(id, patch, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(versionETag(patched)).body(patched);
     }
 
     // -------------------- DELETE --------------------
 
-    @Operation(summary = "Delete employee by ID")
+    @Operation(
+            summary = "Delete employee by ID",
+            description = "With `If-Match` the employee is only deleted if it still has that ETag."
+    )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Employee deleted successfully"),
             @ApiResponse(
                     responseCode = "404",
                     description = "Employee not found",
                     content = @Content(schema = @Schema(implementation = ApiError.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Employee modified concurrently",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current ETag",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
             )
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEmployee(@PathVariable Integer id) {
-        employeeService.deleteEmployee(id);
+    public ResponseEntity<Void> deleteEmployee(
+            @PathVariable Integer id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        employeeService.deleteEmployee(id, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    // -------------------- BATCH GET --------------------
+
+    @Operation(
+            summary = "Get many employees by id in one request",
+            description = """
+                    Resolves up to 5000 ids (`ids=1,2,3`). Cached employees are served from
+                    the employee cache; the rest are read with a single query.
+                    Employees come back in request order, unknown ids are listed in `missing`.
+                    `fields` (e.g. `id,email`) returns only those properties of each employee.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Employees found and ids missing"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many or invalid ids",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = {"ids", "!cursor"})
+    public ResponseEntity<EmployeeLookup<?>> getEmployeesByIds(
+            @RequestParam List<Integer> ids,
+            @Parameter(description = "Optional subset of id, firstName, lastName, email", example = "id,email")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(lookup(ids, fields));
+    }
+
+    // ids and cursor select two different reads, neither handler may guess
+    @Operation(hidden = true)
+    @GetMapping(params = {"ids", "cursor"})
+    public ResponseEntity<Void> rejectIdsWithCursor() {
+        throw new BadRequestException("ids and cursor cannot be combined");
+    }
+
+    @Operation(
+            summary = "Get many employees by id (ids in the body)",
+            description = "Same as `GET /v1/employees?ids=` for id lists too long for a URL; `fields` stays a query parameter."
+    )
+    @PostMapping("/batch-get")
+    public ResponseEntity<EmployeeLookup<?>> getEmployeesByIdsInBody(
+            @RequestBody List<Integer> ids,
+            @Parameter(description = "Optional subset of id, firstName, lastName, email", example = "id,email")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(lookup(ids, fields));
+    }
+
+    // -------------------- BATCH UPDATE --------------------
+
+    @Operation(
+            summary = "Update many employees in one request",
+            description = """
+                    Each item names an employee by `id` and the fields to change; omitted fields
+                    keep their value. With `version` an item only applies if the employee still
+                    has that version. Items are written in chunks of one statement each.
+                    The response lists one result per item, in request order:
+                    OK, NOT_FOUND, VALIDATION_ERROR or CONFLICT (stale version or taken email).
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many items",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @PostMapping("/batch-update")
+    public ResponseEntity<BatchReport> updateEmployees(@RequestBody List<EmployeeBatchUpdate> updates) {
+        return ResponseEntity.ok(employeeBatchService.updateEmployees(updates));
+    }
+
+    // -------------------- BATCH DELETE --------------------
+
+    @Operation(
+            summary = "Delete many employees in one request",
+            description = """
+                    Deletes the given ids in chunks of one statement each.
+                    The response lists one result per id, in request order: OK, NOT_FOUND or VALIDATION_ERROR.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many items",
+                    content = @Content(schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @PostMapping("/batch-delete")
+    public ResponseEntity<BatchReport> deleteEmployees(@RequestBody List<Integer> ids) {
+        return ResponseEntity.ok(employeeBatchService.deleteEmployees(ids));
+    }
+
+    private EmployeeLookup<?> lookup(List<Integer> ids, String fields) {
+        Set<EmployeeField> selected = fields == null ? null : EmployeeField.parse(fields);
+        EmployeeLookup<EmployeeDTO> found = employeeBatchService.getEmployees(ids);
+        return selected == null ? found : new EmployeeLookup<>(EmployeeField.project(found.content(), selected), found.missing());
+    }
+
+    // -------------------- ETAGS --------------------
+
+    private String listETag() {
+        return "W/\"" + employeeService.getChangeCount() + "\"";
+    }
+
+    private static String versionETag(EmployeeDTO employee) {
+        return "\"" + employee.getVersion() + "\"";
+    }
+
+    /**
+     * Version required by an If-Match header, {@code null} when absent or {@code *}.
+     * If-Match uses strong comparison, so a weak or foreign tag can never match.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.size() != 1) {
+            throw new BadRequestException("If-Match must carry exactly one entity tag");
+        }
+        ETag tag = tags.getFirst();
+        if (tag.isWildcard()) {
+            return null;
+        }
+        try {
+            if (!tag.weak()) {
+                return Long.parseLong(tag.tag());
+            }
+        } catch (NumberFormatException ignored) {
+            // not one of our tags
+        }
+        throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the current ETag");
+    }
 }
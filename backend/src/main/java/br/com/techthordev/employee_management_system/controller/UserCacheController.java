@@ -0,0 +1,50 @@
+package br.com.techthordev.employee_management_system.controller;
+
+import br.com.techthordev.employee_management_system.config.ApiVersion;
+import br.com.techthordev.employee_management_system.security.CustomUserDetailsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/user-cache")
+@ApiVersion(1)
+@Tag(
+        name = "Admin API v1",
+        description = "Operations for administrators"
+)
+public class UserCacheController {
+
+    private final CustomUserDetailsService userDetailsService;
+
+    public UserCacheController(CustomUserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Operation(
+            summary = "Evict one cached login user",
+            description = "Call after changing the user's password, roles or enabled flag in auth.users."
+    )
+    @ApiResponse(responseCode = "204", description = "Evicted (or was not cached)")
+    @DeleteMapping("/{username}")
+    public ResponseEntity<Void> evictUser(@PathVariable String username) {
+        userDetailsService.evictUser(username);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Evict all cached login users",
+            description = "Call after changing roles in auth.roles or many users at once."
+    )
+    @ApiResponse(responseCode = "204", description = "Cache cleared")
+    @DeleteMapping
+    public ResponseEntity<Void> evictAllUsers() {
+        userDetailsService.evictAllUsers();
+        return ResponseEntity.noContent().build();
+    }
+}
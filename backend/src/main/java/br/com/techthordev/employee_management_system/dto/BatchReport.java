@@ -0,0 +1,34 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch update or delete, with one entry per request item
+ * in request order.
+ */
+public record BatchReport(
+        long received,
+        long succeeded,
+        long failed,
+        List<ItemResult> results
+) {
+
+    public enum Status {
+        OK,
+        NOT_FOUND,
+        VALIDATION_ERROR,
+        CONFLICT
+    }
+
+    /**
+     * Outcome of one item, identified by its 0-based position in the request.
+     * {@code version} is the new employee version after a successful update.
+     */
+    public record ItemResult(
+            int index,
+            Integer id,
+            Status status,
+            Long version,
+            List<String> messages
+    ) {}
+}
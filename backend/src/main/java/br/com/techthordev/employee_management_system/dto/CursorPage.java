@@ -0,0 +1,16 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import java.util.List;
+
+/**
+ * One window of a keyset-paginated result.
+ * <p>
+ * {@code nextCursor} is an opaque token to be sent back as {@code cursor=}
+ * to fetch the following window; it is {@code null} on the last window.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {}
@@ -0,0 +1,34 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * One item of a batch update.
+ * <p>
+ * Fields left {@code null} keep their current value. When {@code version} is
+ * given the item is only applied if the employee still has that version,
+ * like {@code If-Match} on a single update.
+ */
+public record EmployeeBatchUpdate(
+
+        @NotNull(message = "Id must not be null")
+        Integer id,
+
+        @Pattern(regexp = ".*\\S.*", message = "First name must not be blank")
+        @Size(max = 45, message = "First name must be at most 45 characters")
+        String firstName,
+
+        @Pattern(regexp = ".*\\S.*", message = "Last name must not be blank")
+        @Size(max = 45, message = "Last name must be at most 45 characters")
+        String lastName,
+
+        @Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+        @Email(message = "Email must be a valid email address")
+        @Size(max = 45, message = "Email must be at most 45 characters")
+        String email,
+
+        Long version
+) {}
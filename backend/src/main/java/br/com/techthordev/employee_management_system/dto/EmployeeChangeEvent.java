@@ -0,0 +1,27 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import java.time.Instant;
+
+/**
+ * One event of the employee change feed ({@code GET /v1/employees/changes}).
+ * <p>
+ * {@code sequence} orders the events of one server run. {@code employee} is
+ * absent for deletes; a {@code RESET} tells the client that events were missed
+ * and its data has to be fetched again.
+ */
+public record EmployeeChangeEvent(
+        long sequence,
+        Type type,
+        Integer employeeId,
+        Long version,
+        EmployeeDTO employee,
+        Instant timestamp
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RESET
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.techthordev.employee_management_system.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -21,6 +22,10 @@ public class EmployeeDTO {
     @Size(max = 45, message = "Email must be at most 45 characters")
     private String email;
 
+    // row version, travels in the ETag header rather than the body
+    @JsonIgnore
+    private Long version;
+
     public EmployeeDTO() {}
 
     public EmployeeDTO(Integer id, String firstName, String lastName, String email) {
@@ -64,4 +69,12 @@ public class EmployeeDTO {
     public void setEmail(String email) {
         this.email = email;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,100 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Employee fields selectable with {@code fields=} (sparse fieldsets),
+ * with the column each one is read from.
+ */
+public enum EmployeeField {
+
+    ID("id", "id"),
+    FIRST_NAME("firstName", "first_name"),
+    LAST_NAME("lastName", "last_name"),
+    EMAIL("email", "email");
+
+    private final String property;
+    private final String column;
+
+    EmployeeField(String property, String column) {
+        this.property = property;
+        this.column = column;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public Object read(ResultSet rs, int columnIndex) throws SQLException {
+        return this == ID ? rs.getInt(columnIndex) : rs.getString(columnIndex);
+    }
+
+    public Object read(EmployeeDTO employee) {
+        return switch (this) {
+            case ID -> employee.getId();
+            case FIRST_NAME -> employee.getFirstName();
+            case LAST_NAME -> employee.getLastName();
+            case EMAIL -> employee.getEmail();
+        };
+    }
+
+    public static EmployeeField fromProperty(String property) {
+        for (EmployeeField field : values()) {
+            if (field.property.equalsIgnoreCase(property)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("Unknown employee field: " + property + " (expected id, firstName, lastName or email)");
+    }
+
+    /**
+     * Parses a comma-separated list such as {@code id,lastName}.
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        Set<EmployeeField> parsed = EnumSet.noneOf(EmployeeField.class);
+        for (String property : fields.split(",")) {
+            if (!property.isBlank()) {
+                parsed.add(fromProperty(property.trim()));
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new BadRequestException("fields must name at least one of id, firstName, lastName or email");
+        }
+        return parsed;
+    }
+
+    /**
+     * Copies only the given fields of an employee, in declaration order.
+     */
+    public static Map<String, Object> project(EmployeeDTO employee, Set<EmployeeField> fields) {
+        Map<String, Object> projected = LinkedHashMap.newLinkedHashMap(fields.size());
+        for (EmployeeField field : fields) {
+            projected.put(field.property, field.read(employee));
+        }
+        return projected;
+    }
+
+    /**
+     * Projects every employee of a list, see {@link #project(EmployeeDTO, Set)}.
+     */
+    public static List<Map<String, Object>> project(List<EmployeeDTO> employees, Set<EmployeeField> fields) {
+        List<Map<String, Object>> projected = new ArrayList<>(employees.size());
+        for (EmployeeDTO employee : employees) {
+            projected.add(project(employee, fields));
+        }
+        return projected;
+    }
+}
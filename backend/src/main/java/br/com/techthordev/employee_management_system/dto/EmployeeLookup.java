@@ -0,0 +1,13 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import java.util.List;
+
+/**
+ * Result of a multi-get: the employees found, in request order, and the
+ * requested ids that do not exist. Duplicate ids are answered once.
+ */
+public record EmployeeLookup<T>(
+        List<T> content,
+        List<Integer> missing
+) {
+}
@@ -0,0 +1,83 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch (RFC 7396) document for an employee.
+ * <p>
+ * Absent members stay {@code null} and are left unchanged; constraints only
+ * apply to the members that are present. An explicit {@code null} would remove
+ * the value, which no employee field allows, so those members are collected in
+ * {@link #getRemovedFields()} and rejected by the service.
+ */
+public class EmployeePatch {
+
+    @Pattern(regexp = ".*\\S.*", message = "First name must not be blank")
+    @Size(max = 45, message = "First name must be at most 45 characters")
+    private String firstName;
+
+    @Pattern(regexp = ".*\\S.*", message = "Last name must not be blank")
+    @Size(max = 45, message = "Last name must be at most 45 characters")
+    private String lastName;
+
+    @Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+    @Email(message = "Email must be a valid email address")
+    @Size(max = 45, message = "Email must be at most 45 characters")
+    private String email;
+
+    @JsonIgnore
+    private final Set<String> removedFields = new LinkedHashSet<>();
+
+    // no properties constructor: members must go through the setters to be tracked
+    public EmployeePatch() {}
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = track("firstName", firstName);
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = track("lastName", lastName);
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = track("email", email);
+    }
+
+    @JsonIgnore
+    public Set<String> getRemovedFields() {
+        return removedFields;
+    }
+
+    // true when the patch changes nothing
+    @JsonIgnore
+    public boolean isEmpty() {
+        return firstName == null && lastName == null && email == null;
+    }
+
+    private String track(String field, String value) {
+        if (value == null) {
+            removedFields.add(field);
+        } else {
+            removedFields.remove(field);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.techthordev.employee_management_system.dto;
+
+/**
+ * Lightweight typeahead result: employee id plus a display label.
+ */
+public record EmployeeSuggestionDTO(
+        Integer id,
+        String label
+) {}
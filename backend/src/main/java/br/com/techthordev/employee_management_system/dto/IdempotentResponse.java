@@ -0,0 +1,15 @@
+package br.com.techthordev.employee_management_system.dto;
+
+/**
+ * Snapshot of a response to a request with an Idempotency-Key, replayed for retries.
+ *
+ * @param requestHash SHA-256 of the request body, a retry has to match it
+ */
+public record IdempotentResponse(
+        byte[] requestHash,
+        int status,
+        String contentType,
+        String eTag,
+        String location,
+        byte[] body
+) {}
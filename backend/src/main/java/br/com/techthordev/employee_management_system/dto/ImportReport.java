@@ -0,0 +1,26 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk import.
+ * <p>
+ * Only the first rejected rows are listed in {@code errors};
+ * {@code errorsTruncated} tells whether more rows failed than reported.
+ */
+public record ImportReport(
+        long received,
+        long imported,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * A rejected input row, identified by its 1-based line number.
+     */
+    public record RowError(
+            long line,
+            List<String> messages
+    ) {}
+}
@@ -0,0 +1,7 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record RefreshRequest(
+        @JsonProperty("refresh_token") String refreshToken
+) {}
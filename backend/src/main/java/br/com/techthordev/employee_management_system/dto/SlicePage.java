@@ -0,0 +1,39 @@
+package br.com.techthordev.employee_management_system.dto;
+
+import br.com.techthordev.employee_management_system.service.TotalMode;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of an offset-paginated result whose total is optional.
+ * <p>
+ * Same shape as Spring Data's serialized {@code Page}, plus {@code hasNext}.
+ * {@code totalElements} and {@code totalPages} are {@code null} when no total
+ * was requested; {@code total} tells whether they are exact or estimated.
+ */
+public record SlicePage<T>(
+        List<T> content,
+        Metadata page
+) {
+
+    public record Metadata(
+            int size,
+            int number,
+            boolean hasNext,
+            Long totalElements,
+            Long totalPages,
+            String total
+    ) {}
+
+    public static <T> SlicePage<T> of(Slice<T> slice, Long totalElements, TotalMode mode) {
+        Long totalPages = null;
+        if (totalElements != null) {
+            totalPages = slice.getSize() == 0 ? 1 : (totalElements + slice.getSize() - 1) / slice.getSize();
+        }
+        return new SlicePage<>(
+                slice.getContent(),
+                new Metadata(slice.getSize(), slice.getNumber(), slice.hasNext(), totalElements, totalPages, mode.getName())
+        );
+    }
+}
@@ -21,6 +21,11 @@ public class Employee {
     @Column(name="email", nullable = false, unique = true)
     private String email;
 
+    // optimistic lock, exposed as the strong ETag
+    @Version
+    @Column(name="version", nullable = false)
+    private long version;
+
     // define constructors
     public Employee() {}
 
@@ -63,6 +68,14 @@ public class Employee {
         this.email = email;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     // define toString
     @Override
     public String toString() {
@@ -0,0 +1,11 @@
+package br.com.techthordev.employee_management_system.exception;
+
+/**
+ * Thrown when a request is syntactically valid but carries unusable parameters.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
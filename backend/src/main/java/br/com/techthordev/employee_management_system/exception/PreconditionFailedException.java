@@ -0,0 +1,11 @@
+package br.com.techthordev.employee_management_system.exception;
+
+/**
+ * Thrown when an If-Match precondition does not match the current resource version.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
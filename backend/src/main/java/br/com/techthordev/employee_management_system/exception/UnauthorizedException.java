@@ -0,0 +1,11 @@
+package br.com.techthordev.employee_management_system.exception;
+
+/**
+ * Thrown when presented credentials (e.g. a refresh token) are unknown, expired or revoked.
+ */
+public class UnauthorizedException extends RuntimeException {
+
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,318 @@
+package br.com.techthordev.employee_management_system.repository;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeBatchUpdate;
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.EmployeePatch;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Set-based JDBC writes for employees.
+ * <p>
+ * Bypasses the persistence context: one statement per batch instead of one
+ * INSERT (plus identity round trip) per row, and partial updates that only
+ * name the columns being changed.
+ */
+@Repository
+@Timed(value = "employee.bulk.repository", histogram = true)
+public class EmployeeBulkRepository {
+
+    private static final String INSERT_BATCH =
+            "INSERT INTO public.employee (first_name, last_name, email) " +
+            "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[]) " +
+            "ON CONFLICT (email) DO NOTHING " +
+            "RETURNING id, email";
+
+    // null fields keep the current value, a null version skips the version check.
+    // Only rows where a value differs are written and get a new version; matching
+    // no-op rows are returned unchanged (both branches see the pre-update snapshot).
+    private static final String UPDATE_BATCH =
+            "WITH u AS (" +
+            "SELECT * FROM unnest(?::int[], ?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[]) " +
+            "AS u(id, version, first_name, last_name, email)), " +
+            "matched AS (" +
+            "SELECT e.id, e.first_name, e.last_name, e.email, e.version, " +
+            "COALESCE(u.first_name, e.first_name) IS DISTINCT FROM e.first_name " +
+            "OR COALESCE(u.last_name, e.last_name) IS DISTINCT FROM e.last_name " +
+            "OR COALESCE(u.email, e.email) IS DISTINCT FROM e.email AS changed " +
+            "FROM public.employee e JOIN u ON e.id = u.id " +
+            "WHERE u.version IS NULL OR e.version = u.version), " +
+            "updated AS (" +
+            "UPDATE public.employee e SET " +
+            "first_name = COALESCE(u.first_name, e.first_name), " +
+            "last_name = COALESCE(u.last_name, e.last_name), " +
+            "email = COALESCE(u.email, e.email), " +
+            "version = e.version + 1 " +
+            "FROM u, matched m " +
+            "WHERE e.id = u.id AND m.id = u.id AND m.changed AND (u.version IS NULL OR e.version = u.version) " +
+            "RETURNING e.id, e.first_name, e.last_name, e.email, e.version) " +
+            "SELECT id, first_name, last_name, email, version, true FROM updated " +
+            "UNION ALL " +
+            "SELECT id, first_name, last_name, email, version, false FROM matched WHERE NOT changed";
+
+    private static final String DELETE_BATCH =
+            "DELETE FROM public.employee WHERE id = ANY(?::int[]) RETURNING id";
+
+    private static final String SELECT_BY_IDS =
+            "SELECT id, first_name, last_name, email, version FROM public.employee WHERE id = ANY(?::int[])";
+
+    private static final String SELECT_EXISTING_IDS =
+            "SELECT id FROM public.employee WHERE id = ANY(?::int[])";
+
+    private static final String SELECT_ALL =
+            "SELECT id, first_name, last_name, email FROM public.employee ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts all rows in a single statement.
+     * Rows whose email already exists are skipped.
+     *
+     * @return generated id per inserted email
+     */
+    public Map<String, Integer> insertAll(List<EmployeeDTO> rows) {
+        String[] firstNames = new String[rows.size()];
+        String[] lastNames = new String[rows.size()];
+        String[] emails = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            firstNames[i] = rows.get(i).getFirstName();
+            lastNames[i] = rows.get(i).getLastName();
+            emails[i] = rows.get(i).getEmail();
+        }
+
+        return jdbcTemplate.execute(INSERT_BATCH, (PreparedStatement ps) -> {
+            Array first = ps.getConnection().createArrayOf("varchar", firstNames);
+            Array last = ps.getConnection().createArrayOf("varchar", lastNames);
+            Array mail = ps.getConnection().createArrayOf("varchar", emails);
+            ps.setArray(1, first);
+            ps.setArray(2, last);
+            ps.setArray(3, mail);
+
+            Map<String, Integer> inserted = new HashMap<>(rows.size() * 2);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    inserted.put(rs.getString("email"), rs.getInt("id"));
+                }
+            } finally {
+                first.free();
+                last.free();
+                mail.free();
+            }
+            return inserted;
+        });
+    }
+
+    /**
+     * Applies all updates in a single statement. Like {@link #patch}, an item that
+     * changes no value leaves its row and version untouched.
+     * Ids must be unique within {@code rows}.
+     *
+     * @return the matched rows by id, with their new version if they changed;
+     * unknown ids and stale versions are missing
+     */
+    public Map<Integer, UpdatedRow> updateAll(List<EmployeeBatchUpdate> rows) {
+        Integer[] ids = new Integer[rows.size()];
+        Long[] versions = new Long[rows.size()];
+        String[] firstNames = new String[rows.size()];
+        String[] lastNames = new String[rows.size()];
+        String[] emails = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            EmployeeBatchUpdate row = rows.get(i);
+            ids[i] = row.id();
+            versions[i] = row.version();
+            firstNames[i] = row.firstName();
+            lastNames[i] = row.lastName();
+            emails[i] = row.email();
+        }
+
+        return jdbcTemplate.execute(UPDATE_BATCH, (PreparedStatement ps) -> {
+            Array idArray = ps.getConnection().createArrayOf("int4", ids);
+            Array versionArray = ps.getConnection().createArrayOf("int8", versions);
+            Array first = ps.getConnection().createArrayOf("varchar", firstNames);
+            Array last = ps.getConnection().createArrayOf("varchar", lastNames);
+            Array mail = ps.getConnection().createArrayOf("varchar", emails);
+            ps.setArray(1, idArray);
+            ps.setArray(2, versionArray);
+            ps.setArray(3, first);
+            ps.setArray(4, last);
+            ps.setArray(5, mail);
+
+            Map<Integer, UpdatedRow> updated = new HashMap<>(rows.size() * 2);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    EmployeeDTO dto = mapVersioned(rs, 0);
+                    updated.put(dto.getId(), new UpdatedRow(dto, rs.getBoolean(6)));
+                }
+            } finally {
+                idArray.free();
+                versionArray.free();
+                first.free();
+                last.free();
+                mail.free();
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * Writes only the columns present in the patch, and only if at least one of
+     * them differs from the stored value, so a no-op patch leaves the row untouched.
+     *
+     * @param expectedVersion required current version, {@code null} to skip the check
+     * @return the updated row, empty if nothing was written (unknown id,
+     * stale version or no change)
+     */
+    public Optional<EmployeeDTO> patch(int id, Long expectedVersion, EmployeePatch patch) {
+        List<String> assignments = new ArrayList<>(3);
+        List<String> changes = new ArrayList<>(3);
+        List<Object> values = new ArrayList<>(3);
+        addColumn("first_name", patch.getFirstName(), assignments, changes, values);
+        addColumn("last_name", patch.getLastName(), assignments, changes, values);
+        addColumn("email", patch.getEmail(), assignments, changes, values);
+
+        if (assignments.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE public.employee SET ")
+                .append(String.join(", ", assignments))
+                .append(", version = version + 1 WHERE id = ?");
+        List<Object> args = new ArrayList<>(values);
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        sql.append(" AND (").append(String.join(" OR ", changes)).append(")")
+                .append(" RETURNING id, first_name, last_name, email, version");
+        args.addAll(values);
+
+        return jdbcTemplate.query(sql.toString(), EmployeeBulkRepository::mapVersioned, args.toArray())
+                .stream()
+                .findFirst();
+    }
+
+    private static void addColumn(String column, String value,
+                                  List<String> assignments, List<String> changes, List<Object> values) {
+        if (value != null) {
+            assignments.add(column + " = ?");
+            changes.add(column + " IS DISTINCT FROM ?");
+            values.add(value);
+        }
+    }
+
+    private static EmployeeDTO mapVersioned(ResultSet rs, int rowNum) throws SQLException {
+        EmployeeDTO dto = new EmployeeDTO(
+                rs.getInt(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4)
+        );
+        dto.setVersion(rs.getLong(5));
+        return dto;
+    }
+
+    /**
+     * Deletes all ids in a single statement.
+     *
+     * @return the ids that existed and were deleted
+     */
+    public Set<Integer> deleteAll(Collection<Integer> ids) {
+        return selectIds(DELETE_BATCH, ids);
+    }
+
+    /**
+     * Reads all ids in a single statement.
+     *
+     * @return the employees found, by id
+     */
+    public Map<Integer, EmployeeDTO> findAllByIds(Collection<Integer> ids) {
+        return jdbcTemplate.execute(SELECT_BY_IDS, (PreparedStatement ps) -> {
+            Array idArray = ps.getConnection().createArrayOf("int4", ids.toArray());
+            ps.setArray(1, idArray);
+
+            Map<Integer, EmployeeDTO> found = new HashMap<>(ids.size() * 2);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    EmployeeDTO dto = mapVersioned(rs, 0);
+                    found.put(dto.getId(), dto);
+                }
+            } finally {
+                idArray.free();
+            }
+            return found;
+        });
+    }
+
+    /**
+     * @return the subset of {@code ids} that exists
+     */
+    public Set<Integer> existingIds(Collection<Integer> ids) {
+        return selectIds(SELECT_EXISTING_IDS, ids);
+    }
+
+    private Set<Integer> selectIds(String sql, Collection<Integer> ids) {
+        return jdbcTemplate.execute(sql, (PreparedStatement ps) -> {
+            Array idArray = ps.getConnection().createArrayOf("int4", ids.toArray());
+            ps.setArray(1, idArray);
+
+            Set<Integer> found = new HashSet<>(ids.size() * 2);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    found.add(rs.getInt(1));
+                }
+            } finally {
+                idArray.free();
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Streams all employees ordered by id through a server-side cursor.
+     * <p>
+     * Must run inside a transaction: the PostgreSQL driver only honours the
+     * fetch size with auto-commit off, otherwise it reads the whole result.
+     */
+    public void forEach(int fetchSize, Consumer<EmployeeDTO> action) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> action.accept(new EmployeeDTO(
+                        rs.getInt(1),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getString(4)
+                ))
+        );
+    }
+
+    /**
+     * A row matched by {@link #updateAll}; {@code changed} is false for a no-op item.
+     */
+    public record UpdatedRow(EmployeeDTO employee, boolean changed) {}
+}
@@ -0,0 +1,59 @@
+package br.com.techthordev.employee_management_system.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Employee row counts estimated from PostgreSQL planner statistics.
+ * <p>
+ * Neither query touches the table, so the cost does not grow with its size.
+ * Estimates are as fresh as the last (auto)vacuum / analyze.
+ */
+@Repository
+public class EmployeeCountRepository {
+
+    private static final String ESTIMATE_ALL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = 'public.employee'::regclass";
+
+    private static final String EXPLAIN_SEARCH = "EXPLAIN SELECT 1 " + EmployeeRepository.SEARCH_FROM;
+
+    // first plan line, e.g. "Bitmap Heap Scan on employee e  (cost=..  rows=1234 width=4)"
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public EmployeeCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * @return estimated number of employees, negative if the table was never analyzed
+     */
+    public long estimateAll() {
+        Long estimate = jdbcTemplate.queryForObject(ESTIMATE_ALL, Long.class);
+        return estimate != null ? estimate : -1;
+    }
+
+    /**
+     * Planner estimate for {@link EmployeeRepository#countSearch}, without executing it.
+     *
+     * @param pattern escaped, lower-cased LIKE pattern ({@code %term%})
+     * @return estimated number of matches, negative if the plan could not be read
+     */
+    public long estimateSearch(String pattern) {
+        List<String> plan = namedJdbcTemplate.queryForList(EXPLAIN_SEARCH, Map.of("pattern", pattern), String.class);
+        if (plan.isEmpty()) {
+            return -1;
+        }
+        Matcher rows = PLAN_ROWS.matcher(plan.getFirst());
+        return rows.find() ? Long.parseLong(rows.group(1)) : -1;
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.techthordev.employee_management_system.repository;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeField;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Reads only the requested employee columns (sparse fieldsets).
+ * <p>
+ * Rows go straight from the result set into maps: no entities are
+ * hydrated and nothing enters the persistence context. Column and sort
+ * names come from {@link EmployeeField}, never from the request.
+ */
+@Repository
+public class EmployeeProjectionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EmployeeProjectionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * One page of all employees in the requested sort order (id breaks ties).
+     */
+    public Slice<Map<String, Object>> findSlice(Set<EmployeeField> fields, Pageable pageable) {
+        String sql = "SELECT " + selectList(fields) + " FROM public.employee e ORDER BY " + orderBy(pageable.getSort());
+        return slice(sql, new MapSqlParameterSource(), fields, pageable);
+    }
+
+    /**
+     * Same matches and ranking as {@link EmployeeRepository#searchSlice}.
+     */
+    public Slice<Map<String, Object>> searchSlice(Set<EmployeeField> fields, String pattern, String term, Pageable pageable) {
+        String sql = "SELECT " + selectList(fields) + " "
+                + EmployeeRepository.SEARCH_FROM + EmployeeRepository.SEARCH_RANK;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("pattern", pattern)
+                .addValue("term", term);
+        return slice(sql, params, fields, pageable);
+    }
+
+    private Slice<Map<String, Object>> slice(String sql, MapSqlParameterSource params,
+                                             Set<EmployeeField> fields, Pageable pageable) {
+        if (pageable.isPaged()) {
+            // one extra row tells whether there is a next page, without a count query
+            sql += " LIMIT :limit OFFSET :offset";
+            params.addValue("limit", pageable.getPageSize() + 1)
+                    .addValue("offset", pageable.getOffset());
+        }
+
+        EmployeeField[] columns = fields.toArray(EmployeeField[]::new);
+        List<Map<String, Object>> rows = jdbcTemplate.query(sql, params, (rs, rowNum) -> mapRow(rs, columns));
+
+        boolean hasNext = pageable.isPaged() && rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows = new ArrayList<>(rows.subList(0, pageable.getPageSize()));
+        }
+        return new SliceImpl<>(rows, pageable, hasNext);
+    }
+
+    private static Map<String, Object> mapRow(ResultSet rs, EmployeeField[] columns) throws SQLException {
+        Map<String, Object> row = LinkedHashMap.newLinkedHashMap(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            row.put(columns[i].getProperty(), columns[i].read(rs, i + 1));
+        }
+        return row;
+    }
+
+    private static String selectList(Set<EmployeeField> fields) {
+        StringJoiner columns = new StringJoiner(", ");
+        for (EmployeeField field : fields) {
+            columns.add("e." + field.getColumn());
+        }
+        return columns.toString();
+    }
+
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ");
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            EmployeeField field = EmployeeField.fromProperty(order.getProperty());
+            hasId |= field == EmployeeField.ID;
+            orderBy.add("e." + field.getColumn() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        if (!hasId) {
+            orderBy.add("e.id");
+        }
+        return orderBy.toString();
+    }
+}
@@ -1,11 +1,20 @@
 package br.com.techthordev.employee_management_system.repository;
 
 import br.com.techthordev.employee_management_system.entity.Employee;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 
 /**
@@ -18,14 +27,107 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
 
     // Everything CRUD-related is inherited from JpaRepository
 
+    String SEARCH_FROM = "FROM public.employee e " +
+            "WHERE lower(e.first_name) LIKE :pattern " +
+            "OR lower(e.last_name) LIKE :pattern " +
+            "OR lower(e.email) LIKE :pattern ";
+
+    String UPDATE_ROW = "UPDATE public.employee " +
+            "SET first_name = :firstName, last_name = :lastName, email = :email, version = version + 1 " +
+            "WHERE id = :id ";
+
+    String RETURNING_ROW = "RETURNING id, first_name, last_name, email, version";
+
+    String SEARCH_RANK = "ORDER BY greatest(" +
+            "similarity(lower(e.first_name), :term), " +
+            "similarity(lower(e.last_name), :term), " +
+            "similarity(lower(e.email), :term)) DESC, e.id";
+
     /**
      * Search employees by first name, last name, or email.
-     * Case-insensitive search using PostgreSQL lower() function.
+     * <p>
+     * Case-insensitive substring match on lower(column), served by the pg_trgm
+     * GIN indexes from V5. Results are ranked by trigram similarity to the term,
+     * id breaks ties so pagination is stable.
+     *
+     * @param pattern escaped, lower-cased LIKE pattern ({@code %term%})
+     * @param term    lower-cased raw term used for ranking
+     */
+    @Query(value = "SELECT e.* " + SEARCH_FROM + SEARCH_RANK,
+            countQuery = "SELECT count(*) " + SEARCH_FROM,
+            nativeQuery = true)
+    Page<Employee> search(@Param("pattern") String pattern, @Param("term") String term, Pageable pageable);
+
+    /**
+     * Same as {@link #search} but without the count query.
+     */
+    @Query(value = "SELECT e.* " + SEARCH_FROM + SEARCH_RANK, nativeQuery = true)
+    Slice<Employee> searchSlice(@Param("pattern") String pattern, @Param("term") String term, Pageable pageable);
+
+    @Query(value = "SELECT count(*) " + SEARCH_FROM, nativeQuery = true)
+    long countSearch(@Param("pattern") String pattern);
+
+    /**
+     * Offset pagination without the count query.
+     */
+    Slice<Employee> findAllBy(Pageable pageable);
+
+    /**
+     * Keyset (seek) pagination over all employees.
+     * Continues after the given position without OFFSET and without a count query.
+     */
+    Window<Employee> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Table-level change counter maintained by the V6 statement trigger.
+     * Grows with every committed INSERT, UPDATE or DELETE on employee;
+     * a primary-key scan of 16 rows, used as the weak ETag of list pages.
+     */
+    @Query(value = "SELECT COALESCE(sum(changes), 0) FROM public.employee_change_counter", nativeQuery = true)
+    long changeCount();
+
+    /**
+     * Overwrites an employee in one {@code UPDATE ... RETURNING} round trip,
+     * without loading it first. Bumps the version like a JPA {@code @Version} update.
+     *
+     * @return the updated row, empty if no employee has this id
+     */
+    @Transactional
+    @Query(value = UPDATE_ROW + RETURNING_ROW, nativeQuery = true)
+    Optional<Employee> updateRowById(@Param("id") Integer id,
+                                     @Param("firstName") String firstName,
+                                     @Param("lastName") String lastName,
+                                     @Param("email") String email);
+
+    /**
+     * Same as {@link #updateRowById} but only if the row still has the given version.
+     *
+     * @return the updated row, empty if the id is unknown or the version is stale
+     */
+    @Transactional
+    @Query(value = UPDATE_ROW + "AND version = :version " + RETURNING_ROW, nativeQuery = true)
+    Optional<Employee> updateRowByIdAndVersion(@Param("id") Integer id,
+                                               @Param("version") long version,
+                                               @Param("firstName") String firstName,
+                                               @Param("lastName") String lastName,
+                                               @Param("email") String email);
+
+    /**
+     * Deletes an employee in a single statement, without loading it first.
+     *
+     * @return number of rows deleted (0 or 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id = :id")
+    int deleteRowById(@Param("id") Integer id);
+
+    /**
+     * Same as {@link #deleteRowById} but only if the row still has the given version.
      */
-    @Query("SELECT e FROM Employee e " +
-            "WHERE lower(e.firstName) LIKE lower(concat('%', :searchTerm, '%')) " +
-            "OR lower(e.lastName) LIKE lower(concat('%', :searchTerm, '%')) " +
-            "OR lower(e.email) LIKE lower(concat('%', :searchTerm, '%'))")
-    Page<Employee> search(@Param("searchTerm") String searchTerm, Pageable pageable);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id = :id AND e.version = :version")
+    int deleteRowByIdAndVersion(@Param("id") Integer id, @Param("version") long version);
 
 }
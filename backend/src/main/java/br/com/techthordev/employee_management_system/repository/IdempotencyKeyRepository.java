@@ -0,0 +1,69 @@
+package br.com.techthordev.employee_management_system.repository;
+
+import br.com.techthordev.employee_management_system.dto.IdempotentResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Stored responses of requests with an Idempotency-Key, in public.idempotency_keys.
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+    private static final String SELECT =
+            "SELECT request_hash, status, content_type, etag, location, body FROM public.idempotency_keys " +
+            "WHERE scope_hash = ? AND expires_at > now()";
+
+    // the first response wins, a concurrent one from another instance is dropped
+    private static final String INSERT =
+            "INSERT INTO public.idempotency_keys " +
+            "(scope_hash, request_hash, status, content_type, etag, location, body, expires_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (scope_hash) DO NOTHING";
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM public.idempotency_keys WHERE expires_at <= now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<IdempotentResponse> find(byte[] scopeHash) {
+        return jdbcTemplate.query(SELECT,
+                rs -> rs.next()
+                        ? Optional.of(new IdempotentResponse(
+                                rs.getBytes(1),
+                                rs.getInt(2),
+                                rs.getString(3),
+                                rs.getString(4),
+                                rs.getString(5),
+                                rs.getBytes(6)))
+                        : Optional.empty(),
+                (Object) scopeHash);
+    }
+
+    public void insert(byte[] scopeHash, IdempotentResponse response, Instant expiresAt) {
+        jdbcTemplate.update(INSERT,
+                scopeHash,
+                response.requestHash(),
+                response.status(),
+                response.contentType(),
+                response.eTag(),
+                response.location(),
+                response.body(),
+                OffsetDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+    }
+
+    /**
+     * @return number of rows deleted
+     */
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.techthordev.employee_management_system.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Refresh tokens in auth.refresh_tokens, looked up by the SHA-256 of the token.
+ * Every statement commits on its own.
+ */
+@Repository
+public class RefreshTokenRepository {
+
+    private static final String INSERT =
+            "INSERT INTO auth.refresh_tokens (token_hash, family_id, username, expires_at) VALUES (?, ?, ?, ?)";
+
+    // single use: of two concurrent refreshes with the same token only one gets the row
+    private static final String MARK_USED =
+            "UPDATE auth.refresh_tokens SET used_at = now() " +
+            "WHERE token_hash = ? AND used_at IS NULL AND revoked_at IS NULL AND expires_at > now() " +
+            "RETURNING family_id, username";
+
+    private static final String SELECT_REUSED_FAMILY =
+            "SELECT family_id FROM auth.refresh_tokens " +
+            "WHERE token_hash = ? AND used_at IS NOT NULL AND revoked_at IS NULL";
+
+    private static final String REVOKE_FAMILY =
+            "UPDATE auth.refresh_tokens SET revoked_at = now() WHERE family_id = ? AND revoked_at IS NULL";
+
+    private static final String REVOKE_FAMILY_OF =
+            "UPDATE auth.refresh_tokens SET revoked_at = now() " +
+            "WHERE family_id = (SELECT family_id FROM auth.refresh_tokens WHERE token_hash = ?) " +
+            "AND revoked_at IS NULL";
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM auth.refresh_tokens WHERE expires_at <= now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(byte[] tokenHash, UUID familyId, String username, Instant expiresAt) {
+        jdbcTemplate.update(INSERT, tokenHash, familyId, username, OffsetDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+    }
+
+    /**
+     * Marks a token as used if it is still usable.
+     *
+     * @return family and owner of the token; empty if it is unknown, expired, revoked or already used
+     */
+    public Optional<UsedToken> markUsed(byte[] tokenHash) {
+        return jdbcTemplate.query(MARK_USED,
+                rs -> rs.next()
+                        ? Optional.of(new UsedToken(rs.getObject(1, UUID.class), rs.getString(2)))
+                        : Optional.empty(),
+                (Object) tokenHash);
+    }
+
+    /**
+     * @return the family of a token that was already used and whose family is not revoked yet
+     */
+    public Optional<UUID> findReusedFamily(byte[] tokenHash) {
+        return jdbcTemplate.query(SELECT_REUSED_FAMILY,
+                rs -> rs.next() ? Optional.of(rs.getObject(1, UUID.class)) : Optional.empty(),
+                (Object) tokenHash);
+    }
+
+    public int revokeFamily(UUID familyId) {
+        return jdbcTemplate.update(REVOKE_FAMILY, familyId);
+    }
+
+    /**
+     * Revokes the family of a token, whether the token itself was used or not.
+     */
+    public int revokeFamilyOf(byte[] tokenHash) {
+        return jdbcTemplate.update(REVOKE_FAMILY_OF, (Object) tokenHash);
+    }
+
+    /**
+     * @return number of rows deleted
+     */
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED);
+    }
+
+    public record UsedToken(UUID familyId, String username) {}
+}
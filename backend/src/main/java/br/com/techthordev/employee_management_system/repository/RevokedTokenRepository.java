@@ -0,0 +1,67 @@
+package br.com.techthordev.employee_management_system.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Revoked access token ids in auth.revoked_tokens, the durable copy of the in-memory denylist.
+ */
+@Repository
+public class RevokedTokenRepository {
+
+    private static final String INSERT =
+            "INSERT INTO auth.revoked_tokens (jti, username, expires_at) VALUES (?, ?, ?) " +
+            "ON CONFLICT (jti) DO NOTHING";
+
+    private static final String SELECT_ACTIVE =
+            "SELECT jti, expires_at FROM auth.revoked_tokens WHERE expires_at > now()";
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM auth.revoked_tokens WHERE expires_at <= now()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RevokedTokenRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(UUID jti, String username, Instant expiresAt) {
+        jdbcTemplate.update(INSERT, jti, username, OffsetDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+    }
+
+    /**
+     * Streams all token ids that have not expired yet through a server-side cursor.
+     */
+    @Transactional(readOnly = true)
+    public void forEachActive(int fetchSize, BiConsumer<UUID, Instant> action) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            SELECT_ACTIVE, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> action.accept(
+                        rs.getObject(1, UUID.class),
+                        rs.getObject(2, OffsetDateTime.class).toInstant()
+                )
+        );
+    }
+
+    /**
+     * @return number of rows deleted
+     */
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED);
+    }
+}
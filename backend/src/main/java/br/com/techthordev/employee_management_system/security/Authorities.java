@@ -0,0 +1,75 @@
+package br.com.techthordev.employee_management_system.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared {@link GrantedAuthority} instances, one per role name.
+ * <p>
+ * There are only a handful of roles, so logins and token checks reuse the same
+ * immutable objects instead of allocating a new list of authorities each time.
+ * <p>
+ * Access tokens carry the roles as a bitmask ({@link #toMask}, {@link #fromMask}).
+ * Bits are only ever appended to {@link #ROLE_BITS}: an issued token must keep
+ * its meaning until it expires.
+ */
+public final class Authorities {
+
+    private static final ConcurrentHashMap<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private static final List<String> ROLE_BITS = List.of("ROLE_EMPLOYEE", "ROLE_MANAGER", "ROLE_ADMIN");
+
+    // one shared list per possible mask, decoding a token allocates nothing
+    private static final List<List<GrantedAuthority>> BY_MASK = buildMasks();
+
+    private Authorities() {
+    }
+
+    public static GrantedAuthority of(String role) {
+        return AUTHORITIES.computeIfAbsent(role, SimpleGrantedAuthority::new);
+    }
+
+    /**
+     * @return the bitmask of the authorities, or {@code -1} if one of them has no bit
+     */
+    public static int toMask(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            int bit = ROLE_BITS.indexOf(authority.getAuthority());
+            if (bit < 0) {
+                return -1;
+            }
+            mask |= 1 << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the mask has bits no role is assigned to
+     */
+    public static List<GrantedAuthority> fromMask(int mask) {
+        if (mask < 0 || mask >= BY_MASK.size()) {
+            throw new IllegalArgumentException("Unknown role bits: " + Integer.toBinaryString(mask));
+        }
+        return BY_MASK.get(mask);
+    }
+
+    private static List<List<GrantedAuthority>> buildMasks() {
+        List<List<GrantedAuthority>> masks = new ArrayList<>(1 << ROLE_BITS.size());
+        for (int mask = 0; mask < 1 << ROLE_BITS.size(); mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (int bit = 0; bit < ROLE_BITS.size(); bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    authorities.add(of(ROLE_BITS.get(bit)));
+                }
+            }
+            masks.add(List.copyOf(authorities));
+        }
+        return List.copyOf(masks);
+    }
+}
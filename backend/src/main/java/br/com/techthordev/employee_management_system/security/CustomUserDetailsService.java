@@ -1,35 +1,101 @@
 package br.com.techthordev.employee_management_system.security;
 
+import br.com.techthordev.employee_management_system.config.CacheConfig;
+import br.com.techthordev.employee_management_system.entity.Role;
 import br.com.techthordev.employee_management_system.entity.User;
 import br.com.techthordev.employee_management_system.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Objects;
 
+/**
+ * Loads login users from auth.users, cached per username.
+ * <p>
+ * A miss reads the user and its roles with one fetch-join query. Unknown
+ * usernames are not cached, so a new user can log in right away. Changes made
+ * to auth.users or auth.roles outside the application have to be followed by
+ * {@link #evictUser} or {@link #evictAllUsers}.
+ * <p>
+ * As {@link UserDetailsPasswordService} it stores the re-encoded password when
+ * the configured BCrypt work factor has been raised.
+ */
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final Cache userCache;
+
+    public CustomUserDetailsService(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.userCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.USERS));
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Wir suchen den User in deiner auth.users Tabelle
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        Account account = userCache.get(username, Account.class);
+        if (account == null) {
+            // Wir suchen den User in deiner auth.users Tabelle
+            User user = userRepository.findWithRolesByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+            account = Account.of(user);
+            userCache.put(username, account);
+        }
 
+        // a new instance per call: authentication erases the password of the returned UserDetails
         return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword()) // Nutzt automatisch den {bcrypt} Hash aus deiner DB
-                .disabled(!user.isEnabled())
-                .authorities(user.getRoles().stream()
-                        .map(role -> new SimpleGrantedAuthority(role.getName()))
-                        .collect(Collectors.toList()))
+                .username(account.username())
+                .password(account.password()) // Nutzt automatisch den {bcrypt} Hash aus deiner DB
+                .disabled(!account.enabled())
+                .authorities(account.authorities())
                 .build();
     }
-}
\ No newline at end of file
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        evictUser(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
+    public void evictUser(String username) {
+        userCache.evict(username);
+    }
+
+    public void evictAllUsers() {
+        userCache.clear();
+    }
+
+    /**
+     * Immutable snapshot of a user, safe to share between logins.
+     */
+    private record Account(
+            String username,
+            String password,
+            boolean enabled,
+            List<GrantedAuthority> authorities
+    ) {
+
+        static Account of(User user) {
+            return new Account(
+                    user.getUsername(),
+                    user.getPassword(),
+                    user.isEnabled(),
+                    user.getRoles().stream()
+                            .map(Role::getName)
+                            .sorted()
+                            .map(Authorities::of)
+                            .toList()
+            );
+        }
+    }
+}
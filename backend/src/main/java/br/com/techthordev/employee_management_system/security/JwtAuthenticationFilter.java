@@ -18,6 +18,7 @@ import java.util.Arrays;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
         this.jwtTokenProvider = jwtTokenProvider;
@@ -37,18 +38,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        final String jwt = authHeader.substring(7);
-        final String username = jwtTokenProvider.extractUsername(jwt);
-
         // Security logic: check if user is not already authenticated
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtTokenProvider.isTokenValid(jwt)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Signature, expiry and claims are checked once (and cached per token)
+            final VerifiedToken token = jwtTokenProvider.verify(authHeader.substring(7));
+
+            if (token != null && token.username() != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        username,
+                        token.username(),
                         null,
-                        jwtTokenProvider.extractAuthorities(jwt)
+                        token.authorities()
                 );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authToken.setDetails(authenticationDetailsSource.buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
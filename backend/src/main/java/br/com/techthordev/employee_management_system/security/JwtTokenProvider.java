@@ -1,32 +1,133 @@
 package br.com.techthordev.employee_management_system.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    // Roles as a bitmask (see Authorities), or as a list of names if a role has no bit
+    private static final String ROLES_CLAIM = "rol";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    // Refresh token family the token was issued with, revoked together with it on logout
+    private static final String FAMILY_CLAIM = "fid";
 
-    @Value("${jwt.expiration-ms}")
-    private long expirationMs;
+    private final long expirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    // Built once: deriving the HMAC key and the parser is not free
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // Tokens that already passed verification, keyed by a hash of the token
+    // and evicted when the token itself expires
+    private final Cache<TokenHash, VerifiedToken> verifiedTokens;
+
+    // Revoked token ids, checked on every request including cache hits
+    private final TokenDenylist denylist;
+
+    // jwt.verification, tagged by outcome
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration-ms}") long expirationMs,
+            @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+            MeterRegistry meterRegistry,
+            TokenDenylist denylist
+    ) {
+        this.expirationMs = expirationMs;
+        this.denylist = denylist;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(Expiry.creating((TokenHash hash, VerifiedToken token) ->
+                        Duration.between(Instant.now(), token.expiresAt())))
+                .build();
+
+        this.cachedTimer = verificationTimer(meterRegistry, "cached");
+        this.verifiedTimer = verificationTimer(meterRegistry, "verified");
+        this.rejectedTimer = verificationTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Bearer token verification (signature, expiry, claims)")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verifies signature and expiry of a token, at most once per distinct token,
+     * and checks the denylist on every call.
+     *
+     * @return the verified token, or {@code null} if it is malformed, forged, expired or revoked
+     */
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        TokenHash hash = TokenHash.of(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            // the cache may hold an entry for a few ms past expiry
+            VerifiedToken result = cached.expiresAt().isAfter(Instant.now())
+                    && !denylist.contains(cached.tokenId()) ? cached : null;
+            record(result != null ? cachedTimer : rejectedTimer, start);
+            return result;
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = toVerifiedToken(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException ex) {
+            record(rejectedTimer, start);
+            return null;
+        }
+
+        verifiedTokens.put(hash, verified);
+        if (denylist.contains(verified.tokenId())) {
+            record(rejectedTimer, start);
+            return null;
+        }
+        record(verifiedTimer, start);
+        return verified;
+    }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
 
     public String extractUsername(String token) {
@@ -34,15 +135,23 @@ public class JwtTokenProvider {
     }
 
     public Collection<? extends GrantedAuthority> extractAuthorities(String token) {
-        Claims claims = extractAllClaims(token);
-        List<?> authorities = claims.get("authorities", List.class);
-        return authorities.stream()
-                .map(role -> new SimpleGrantedAuthority(role.toString()))
-                .collect(Collectors.toList());
+        return toAuthorities(extractAllClaims(token));
+    }
+
+    /**
+     * The refresh token family of a token, without the denylist check: logout still
+     * finds the family of a token that was revoked a moment before.
+     *
+     * @return {@code null} if the token was issued without a refresh token
+     * @throws JwtException if the token is malformed, forged or expired
+     */
+    public UUID extractRefreshFamilyId(String token) {
+        return refreshFamilyId(extractAllClaims(token));
     }
 
     public boolean isTokenValid(String token) {
-        return !extractClaim(token, Claims::getExpiration).before(new Date());
+        Claims claims = extractAllClaims(token);
+        return !claims.getExpiration().before(new Date()) && !denylist.contains(tokenId(claims));
     }
 
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -51,23 +160,124 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        // parseSignedClaims also rejects expired tokens
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        return new VerifiedToken(
+                tokenId(claims),
+                claims.getSubject(),
+                toAuthorities(claims),
+                claims.getExpiration().toInstant(),
+                refreshFamilyId(claims)
+        );
+    }
+
+    private static UUID tokenId(Claims claims) {
+        return decodeId(claims.getId());
+    }
+
+    private static UUID refreshFamilyId(Claims claims) {
+        return decodeId(claims.get(FAMILY_CLAIM, String.class));
+    }
+
+    private static UUID decodeId(String id) {
+        if (id == null) {
+            return null;
+        }
+        // an id that is not a UUID cannot come from generateToken: rejected like a bad signature
+        if (id.length() == 36) {
+            return UUID.fromString(id);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(Base64.getUrlDecoder().decode(id));
+        if (bytes.remaining() != 16) {
+            throw new IllegalArgumentException("Malformed token id");
+        }
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    // 22 characters instead of the 36 of UUID.toString()
+    private static String encodeId(UUID id) {
+        ByteBuffer bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+    }
+
+    private List<GrantedAuthority> toAuthorities(Claims claims) {
+        Integer roles = claims.get(ROLES_CLAIM, Integer.class);
+        if (roles != null) {
+            return Authorities.fromMask(roles);
+        }
+        // tokens issued before the bitmask, and roles without a bit
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        // generateToken always writes one of the two: rejected like a bad signature
+        if (authorities == null) {
+            throw new IllegalArgumentException("Token carries no roles");
+        }
+        return authorities.stream()
+                .map(role -> Authorities.of(role.toString()))
+                .toList();
+    }
+
     // Hilfsmethode zum Generieren (wird später im AuthController gebraucht)
     public String generateToken(org.springframework.security.core.userdetails.UserDetails userDetails) {
-        return Jwts.builder()
+        return generateToken(userDetails, null);
+    }
+
+    /**
+     * @param refreshFamilyId family of the refresh token issued alongside, {@code null} if none
+     */
+    public String generateToken(
+            org.springframework.security.core.userdetails.UserDetails userDetails,
+            UUID refreshFamilyId
+    ) {
+        JwtBuilder builder = Jwts.builder()
+                .id(encodeId(UUID.randomUUID()))
                 .subject(userDetails.getUsername())
-                .claim("authorities", userDetails.getAuthorities().stream()
-                        .map(GrantedAuthority::getAuthority)
-                        .collect(Collectors.toList()))
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSigningKey())
+                .expiration(new Date(System.currentTimeMillis() + expirationMs));
+
+        if (refreshFamilyId != null) {
+            builder.claim(FAMILY_CLAIM, encodeId(refreshFamilyId));
+        }
+
+        int roles = Authorities.toMask(userDetails.getAuthorities());
+        if (roles >= 0) {
+            builder.claim(ROLES_CLAIM, roles);
+        } else {
+            // a role without a bit: fall back to the names
+            builder.claim(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toList()));
+        }
+
+        // HS256 halves the signature; tokens signed with HS512 before still verify
+        return builder
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
-}
\ No newline at end of file
+
+    public long getExpirationSeconds() {
+        return expirationMs / 1000;
+    }
+
+    /**
+     * First 128 bits of the SHA-256 of a token: raw tokens are never kept as cache keys.
+     */
+    private record TokenHash(long high, long low) {
+
+        static TokenHash of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenHash(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 not available", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.techthordev.employee_management_system.security;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+
+import java.io.IOException;
+
+/**
+ * Form login failures: a throttled login gets 429 with Retry-After, anything else
+ * goes back to the login page as before.
+ */
+public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+    public LoginFailureHandler() {
+        super("/login?error");
+    }
+
+    @Override
+    public void onAuthenticationFailure(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            AuthenticationException exception
+    ) throws IOException, ServletException {
+        if (!(exception instanceof LoginThrottledException throttled)) {
+            super.onAuthenticationFailure(request, response, exception);
+            return;
+        }
+
+        // written directly: an error dispatch would be redirected to the login page
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(throttled.getMessage());
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.techthordev.employee_management_system.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when a password check is rejected because the hashing pool is saturated.
+ * The client should retry after {@link #getRetryAfterSeconds()}.
+ * <p>
+ * An authentication exception, so form login hands it to its failure handler
+ * instead of letting it escape as a servlet error.
+ */
+public class LoginThrottledException extends AuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
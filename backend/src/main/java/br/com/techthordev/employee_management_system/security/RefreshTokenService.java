@@ -0,0 +1,197 @@
+package br.com.techthordev.employee_management_system.security;
+
+import br.com.techthordev.employee_management_system.exception.UnauthorizedException;
+import br.com.techthordev.employee_management_system.repository.RefreshTokenRepository;
+import br.com.techthordev.employee_management_system.repository.RefreshTokenRepository.UsedToken;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens.
+ * <p>
+ * A refresh token is 256 random bits; only its SHA-256 is stored. Each login
+ * starts a family, each refresh marks the presented token as used and issues
+ * its successor in the same family. A used token presented again means it was
+ * copied, so the whole family is revoked and both holders have to log in again.
+ * <p>
+ * Access tokens carry the family they were issued with ({@code fid}). Registered
+ * as logout handler: {@code POST /v1/auth/logout} revokes the family of the access
+ * token sent, and of a {@code refresh_token} parameter.
+ */
+@Service
+public class RefreshTokenService implements LogoutHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDetailsService userDetailsService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Duration expiration;
+    private final Duration purgeInterval;
+    private final SecureRandom random = new SecureRandom();
+
+    private final Counter rotated;
+    private final Counter rejected;
+    private final Counter reused;
+
+    private volatile Instant nextPurge = Instant.MIN;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserDetailsService userDetailsService,
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.refresh.expiration:7d}") Duration expiration,
+            @Value("${jwt.refresh.purge-interval:1h}") Duration purgeInterval,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userDetailsService = userDetailsService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.expiration = expiration;
+        this.purgeInterval = purgeInterval;
+
+        this.rotated = refreshCounter(meterRegistry, "rotated");
+        this.rejected = refreshCounter(meterRegistry, "rejected");
+        this.reused = refreshCounter(meterRegistry, "reused");
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.refresh")
+                .description("Refresh token requests, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts a new token family, on login.
+     */
+    public RefreshToken issue(String username) {
+        if (Instant.now().isAfter(nextPurge)) {
+            purgeExpired();
+        }
+        return issue(UUID.randomUUID(), username);
+    }
+
+    /**
+     * Exchanges a refresh token for its successor.
+     *
+     * @throws UnauthorizedException if the token is unknown, expired, revoked or already used,
+     *                               or its user no longer exists or is disabled
+     */
+    public Rotation rotate(String refreshToken) {
+        byte[] hash = hash(refreshToken);
+
+        Optional<UsedToken> used = refreshTokenRepository.markUsed(hash);
+        if (used.isEmpty()) {
+            Optional<UUID> family = refreshTokenRepository.findReusedFamily(hash);
+            if (family.isPresent()) {
+                int revoked = refreshTokenRepository.revokeFamily(family.get());
+                reused.increment();
+                logger.warn("Refresh token reused, revoked token family {} ({} tokens)", family.get(), revoked);
+            } else {
+                rejected.increment();
+            }
+            throw new UnauthorizedException("Refresh token is invalid, expired or revoked");
+        }
+
+        UsedToken token = used.get();
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(token.username());
+        } catch (UsernameNotFoundException ex) {
+            user = null;
+        }
+        if (user == null || !user.isEnabled()) {
+            refreshTokenRepository.revokeFamily(token.familyId());
+            rejected.increment();
+            throw new UnauthorizedException("Refresh token is invalid, expired or revoked");
+        }
+
+        RefreshToken successor = issue(token.familyId(), token.username());
+        rotated.increment();
+        return new Rotation(user, successor);
+    }
+
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.revokeFamilyOf(hash(refreshToken));
+    }
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String accessToken = TokenRevocationService.recoverToken(request);
+        if (accessToken != null) {
+            try {
+                UUID familyId = jwtTokenProvider.extractRefreshFamilyId(accessToken);
+                if (familyId != null) {
+                    refreshTokenRepository.revokeFamily(familyId);
+                }
+            } catch (JwtException | IllegalArgumentException ex) {
+                // forged or expired: nothing to revoke
+            }
+        }
+
+        String refreshToken = request.getParameter("refresh_token");
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            revoke(refreshToken);
+        }
+    }
+
+    private RefreshToken issue(UUID familyId, String username) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.insert(hash(token), familyId, username, Instant.now().plus(expiration));
+        return new RefreshToken(token, familyId);
+    }
+
+    private void purgeExpired() {
+        nextPurge = Instant.now().plus(purgeInterval);
+        int deleted = refreshTokenRepository.deleteExpired();
+        if (deleted > 0) {
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * A refresh token and its family, to be put into the access token issued with it.
+     */
+    public record RefreshToken(String value, UUID familyId) {}
+
+    /**
+     * The user a refresh token belongs to and the token that replaces it.
+     */
+    public record Rotation(UserDetails user, RefreshToken refreshToken) {}
+}
@@ -1,7 +1,12 @@
 package br.com.techthordev.employee_management_system.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,6 +19,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(jsr250Enabled = true)
@@ -25,8 +32,34 @@ public class SecurityConfig {
         this.jwtAuthFilter = jwtAuthFilter;
     }
 
+    /**
+     * Actuator is served on its own port ({@code management.server.port}), bound to
+     * {@code management.server.address} (127.0.0.1), so a local Prometheus or agent scrapes
+     * it without credentials. Requests are matched on the local port of the connection,
+     * which neither a reverse proxy nor forwarded headers can change.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    @ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+    public SecurityFilterChain managementFilterChain(
+            HttpSecurity http,
+            @Value("${management.server.port}") int managementPort
+    ) throws Exception {
+        http
+                .securityMatcher(request -> request.getLocalPort() == managementPort)
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            TokenRevocationService tokenRevocationService,
+            RefreshTokenService refreshTokenService
+    ) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
 
@@ -34,11 +67,17 @@ public class SecurityConfig {
                 .formLogin(form -> form
                         // Spring Boot provides a default /login page
                         .defaultSuccessUrl("/admin/")
+                        // 429 + Retry-After when the password hashing pool is saturated
+                        .failureHandler(new LoginFailureHandler())
                         .permitAll()
                 )
 
                 .logout(logout -> logout
                         .logoutUrl("/v1/auth/logout") // Fixed typo: authh -> auth
+                        // revokes the Bearer token / jwt_token cookie, not just the cookie
+                        .addLogoutHandler(tokenRevocationService)
+                        // and its refresh token family (fid claim) or that of a refresh_token parameter
+                        .addLogoutHandler(refreshTokenService)
                         .deleteCookies("jwt_token", "JSESSIONID")
                         .logoutSuccessUrl("/login")
                         .permitAll()
@@ -57,6 +96,9 @@ public class SecurityConfig {
                         .requestMatchers("/VAADIN/**", "/favicon.ico", "/robots.txt", "/*.js", "/*.css").permitAll()
                         .requestMatchers("/", "/index.html").permitAll()
 
+                        // Metrics: scrapers use the management port, on this port only admins
+                        .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
+
                         // Protected paths
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/v1/admin/**").hasRole("ADMIN")
@@ -72,9 +114,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt on a bounded pool (see {@link BoundedPasswordEncoder}). Hashes with a lower
+     * work factor than {@code security.password.bcrypt-strength} are re-encoded on the next
+     * successful login ({@link CustomUserDetailsService#updatePassword}).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hash-threads:0}") int threads,
+            @Value("${security.password.hash-queue:64}") int queueCapacity,
+            @Value("${security.password.retry-after:1s}") Duration retryAfter,
+            MeterRegistry meterRegistry
+    ) {
+        // default: half the cores, the other half stays free for the rest of the API
+        int hashThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), hashThreads, queueCapacity,
+                Math.max(1, retryAfter.toSeconds()), meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,193 @@
+package br.com.techthordev.employee_management_system.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory set of revoked token ids ({@code jti}), checked on every authenticated request.
+ * <p>
+ * An open-addressing hash table of 64-bit fingerprints (the two halves of the
+ * random UUID folded together) with linear probing, stored in two primitive
+ * arrays: a lookup allocates nothing and usually reads a single cache line.
+ * Readers take no lock, they validate an optimistic {@link StampedLock} stamp
+ * and only retry under the read lock if a revocation was written meanwhile.
+ * <p>
+ * Entries are kept until the token itself expires. Expired entries are dropped
+ * whenever the table is rebuilt, which happens before it would exceed
+ * {@value #MAX_LOAD_PERCENT}% load. With random fingerprints a valid token is
+ * mistaken for a revoked one with a probability of about n / 2<sup>64</sup>,
+ * below 10<sup>-12</sup> even at ten million revoked tokens.
+ */
+@Component
+public class TokenDenylist {
+
+    private static final int MAX_LOAD_PERCENT = 70;
+    private static final int MIN_CAPACITY = 1024;
+
+    // 0 marks an empty slot, no fingerprint is ever 0
+    private static final long EMPTY = 0L;
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] fingerprints;
+    private long[] expiresAtSeconds;
+    private int size;
+    private int threshold;
+
+    public TokenDenylist(@Value("${jwt.denylist.initial-capacity:" + MIN_CAPACITY + "}") int initialCapacity) {
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * @return {@code true} if the token id has been revoked; {@code false} for {@code null}
+     * (tokens issued without an id cannot be revoked individually)
+     */
+    public boolean contains(UUID tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        long fingerprint = fingerprint(tokenId);
+
+        long stamp = lock.tryOptimisticRead();
+        boolean found = probe(fingerprints, fingerprint);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = probe(fingerprints, fingerprint);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds a token id until {@code expiresAt}. Already expired tokens are ignored,
+     * they are rejected by the expiry check anyway.
+     */
+    public void add(UUID tokenId, Instant expiresAt) {
+        long expires = expiresAt.getEpochSecond();
+        long now = Instant.now().getEpochSecond();
+        if (expires <= now) {
+            return;
+        }
+        long fingerprint = fingerprint(tokenId);
+
+        long stamp = lock.writeLock();
+        try {
+            if (size >= threshold) {
+                rebuild(now);
+            }
+            int mask = fingerprints.length - 1;
+            int slot = spread(fingerprint) & mask;
+            while (fingerprints[slot] != EMPTY) {
+                if (fingerprints[slot] == fingerprint) {
+                    expiresAtSeconds[slot] = Math.max(expiresAtSeconds[slot], expires);
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            fingerprints[slot] = fingerprint;
+            expiresAtSeconds[slot] = expires;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Number of entries, including expired ones not yet dropped by a rebuild.
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int capacity() {
+        long stamp = lock.readLock();
+        try {
+            return fingerprints.length;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // -------------------- TABLE --------------------
+
+    private static boolean probe(long[] table, long fingerprint) {
+        int mask = table.length - 1;
+        int slot = spread(fingerprint) & mask;
+        // bounded: an optimistic read may race with a writer and must not loop forever
+        for (int i = 0; i < table.length; i++) {
+            long current = table[slot];
+            if (current == fingerprint) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Drops expired entries and resizes so the live ones fill at most half of the new table.
+     */
+    private void rebuild(long now) {
+        long[] oldFingerprints = fingerprints;
+        long[] oldExpires = expiresAtSeconds;
+
+        int live = 0;
+        for (int i = 0; i < oldFingerprints.length; i++) {
+            if (oldFingerprints[i] != EMPTY && oldExpires[i] > now) {
+                live++;
+            }
+        }
+
+        allocate(tableSizeFor(Math.max(MIN_CAPACITY, live * 2)));
+        int mask = fingerprints.length - 1;
+        for (int i = 0; i < oldFingerprints.length; i++) {
+            if (oldFingerprints[i] != EMPTY && oldExpires[i] > now) {
+                int slot = spread(oldFingerprints[i]) & mask;
+                while (fingerprints[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                fingerprints[slot] = oldFingerprints[i];
+                expiresAtSeconds[slot] = oldExpires[i];
+            }
+        }
+        size = live;
+    }
+
+    private void allocate(int capacity) {
+        fingerprints = new long[capacity];
+        expiresAtSeconds = new long[capacity];
+        threshold = (int) ((long) capacity * MAX_LOAD_PERCENT / 100);
+    }
+
+    private static int tableSizeFor(int entries) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, entries) - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Token denylist capacity too large: " + entries);
+        }
+        return capacity;
+    }
+
+    private static long fingerprint(UUID tokenId) {
+        long fingerprint = tokenId.getMostSignificantBits() ^ tokenId.getLeastSignificantBits();
+        return fingerprint == EMPTY ? 1L : fingerprint;
+    }
+
+    private static int spread(long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32));
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.techthordev.employee_management_system.security;
+
+import br.com.techthordev.employee_management_system.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Revokes access tokens before they expire.
+ * <p>
+ * Revoked token ids go into the in-memory {@link TokenDenylist} right away and
+ * into auth.revoked_tokens, from which the denylist is rebuilt on startup before
+ * the first request is served. Rows of expired tokens are deleted on startup and
+ * then at most once per {@code jwt.denylist.purge-interval}.
+ * <p>
+ * Registered as logout handler: {@code POST /v1/auth/logout} revokes the token
+ * sent in the Authorization header or the {@code jwt_token} cookie.
+ */
+@Service
+public class TokenRevocationService implements LogoutHandler, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenylist denylist;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Duration purgeInterval;
+
+    private volatile Instant nextPurge = Instant.MIN;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            TokenDenylist denylist,
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.denylist.purge-interval:1h}") Duration purgeInterval,
+            MeterRegistry meterRegistry
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.denylist = denylist;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.purgeInterval = purgeInterval;
+
+        Gauge.builder("jwt.denylist.size", denylist, TokenDenylist::size)
+                .description("Revoked token ids held in memory")
+                .register(meterRegistry);
+    }
+
+    // -------------------- LIFECYCLE --------------------
+
+    /**
+     * Runs after all singletons are created and before the web server accepts requests,
+     * so a restart never lets a revoked token through.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        purgeExpired();
+
+        int[] loaded = {0};
+        revokedTokenRepository.forEachActive(LOAD_FETCH_SIZE, (jti, expiresAt) -> {
+            denylist.add(jti, expiresAt);
+            loaded[0]++;
+        });
+
+        logger.info("Token denylist loaded: {} revoked tokens, capacity {}, {} ms",
+                loaded[0], denylist.capacity(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // -------------------- REVOCATION --------------------
+
+    /**
+     * @return {@code false} if the token has no id and can only expire
+     */
+    public boolean revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return false;
+        }
+
+        // effective immediately on this instance, even if the insert fails
+        denylist.add(token.tokenId(), token.expiresAt());
+        revokedTokenRepository.insert(token.tokenId(), token.username(), token.expiresAt());
+
+        if (Instant.now().isAfter(nextPurge)) {
+            purgeExpired();
+        }
+        return true;
+    }
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String jwt = recoverToken(request);
+        if (jwt == null) {
+            return;
+        }
+
+        // a forged or expired token has nothing left to revoke
+        VerifiedToken token = jwtTokenProvider.verify(jwt);
+        if (token != null && revoke(token)) {
+            logger.debug("Revoked token of user {} (expires {})", token.username(), token.expiresAt());
+        }
+    }
+
+    private void purgeExpired() {
+        nextPurge = Instant.now().plus(purgeInterval);
+        int deleted = revokedTokenRepository.deleteExpired();
+        if (deleted > 0) {
+            logger.info("Deleted {} expired revoked tokens", deleted);
+        }
+    }
+
+    /**
+     * The access token of a request: Authorization header, else the {@code jwt_token} cookie.
+     */
+    static String recoverToken(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("jwt_token".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.techthordev.employee_management_system.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The outcome of a successful signature and expiry check of an access token.
+ * Immutable, so a single instance can be shared by every request carrying the same token.
+ *
+ * @param tokenId         the {@code jti} claim, {@code null} for tokens issued before token ids were added
+ * @param refreshFamilyId the {@code fid} claim: refresh token family issued with the token, or {@code null}
+ */
+public record VerifiedToken(
+        UUID tokenId,
+        String username,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt,
+        UUID refreshFamilyId
+) {}
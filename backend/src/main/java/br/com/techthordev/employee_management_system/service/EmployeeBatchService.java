@@ -0,0 +1,22 @@
+package br.com.techthordev.employee_management_system.service;
+
+import br.com.techthordev.employee_management_system.dto.BatchReport;
+import br.com.techthordev.employee_management_system.dto.EmployeeBatchUpdate;
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.EmployeeLookup;
+
+import java.util.List;
+
+
+public interface EmployeeBatchService {
+
+    BatchReport updateEmployees(List<EmployeeBatchUpdate> updates);
+
+    BatchReport deleteEmployees(List<Integer> ids);
+
+    /**
+     * Employees by id, from the employee cache where possible and one query for the rest.
+     */
+    EmployeeLookup<EmployeeDTO> getEmployees(List<Integer> ids);
+
+}
@@ -0,0 +1,35 @@
+package br.com.techthordev.employee_management_system.service;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeChangeEvent.Type;
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+
+/**
+ * Application event for an employee write, published by the employee services
+ * and delivered to {@link EmployeeChangeFeed} once the write is committed.
+ */
+public record EmployeeChange(
+        Type type,
+        Integer employeeId,
+        EmployeeDTO employee
+) {
+
+    public static EmployeeChange created(EmployeeDTO employee) {
+        return new EmployeeChange(Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChange updated(EmployeeDTO employee) {
+        return new EmployeeChange(Type.UPDATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChange deleted(Integer id) {
+        return new EmployeeChange(Type.DELETED, id, null);
+    }
+
+    /**
+     * Many employees changed at once (an import, a large batch chunk): subscribers
+     * fetch their data again instead of getting one event per row.
+     */
+    public static EmployeeChange reset() {
+        return new EmployeeChange(Type.RESET, null, null);
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.techthordev.employee_management_system.service;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeChangeEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.function.Consumer;
+
+
+public interface EmployeeChangeFeed {
+
+    /**
+     * Opens a Server-Sent Events stream of employee changes. With the id of the last
+     * event a client received, the stream first replays what it missed, or sends a
+     * {@code RESET} event if that is no longer buffered.
+     */
+    SseEmitter subscribe(String lastEventId);
+
+    /**
+     * Registers an in-process listener (e.g. a Vaadin view). It is called on the
+     * writing thread and must not block.
+     */
+    void addListener(Consumer<EmployeeChangeEvent> listener);
+
+    void removeListener(Consumer<EmployeeChangeEvent> listener);
+
+}
@@ -0,0 +1,13 @@
+package br.com.techthordev.employee_management_system.service;
+
+import java.io.OutputStream;
+
+
+public interface EmployeeExportService {
+
+    /**
+     * Writes every employee to {@code output} and returns the number of rows written.
+     */
+    long exportEmployees(OutputStream output, EmployeeFileFormat format);
+
+}
@@ -0,0 +1,44 @@
+package br.com.techthordev.employee_management_system.service;
+
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Line-oriented file formats supported by bulk import and export.
+ */
+public enum EmployeeFileFormat {
+
+    CSV(new MediaType("text", "csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    EmployeeFileFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static EmployeeFileFormat fromName(String name) {
+        for (EmployeeFileFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported format: " + name + " (expected csv or ndjson)");
+    }
+
+    public static EmployeeFileFormat fromContentType(String contentType) {
+        return NDJSON.mediaType.isCompatibleWith(MediaType.parseMediaType(contentType)) ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.techthordev.employee_management_system.service;
+
+import br.com.techthordev.employee_management_system.dto.ImportReport;
+
+import java.io.InputStream;
+
+
+public interface EmployeeImportService {
+
+    ImportReport importEmployees(InputStream input, EmployeeFileFormat format);
+
+}
@@ -1,22 +1,74 @@
 package br.com.techthordev.employee_management_system.service;
 
+import br.com.techthordev.employee_management_system.dto.CursorPage;
 import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.EmployeeField;
+import br.com.techthordev.employee_management_system.dto.EmployeePatch;
+import br.com.techthordev.employee_management_system.dto.EmployeeSuggestionDTO;
+import br.com.techthordev.employee_management_system.dto.SlicePage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 public interface EmployeeService {
 
     Page<EmployeeDTO> getAllEmployees(Pageable pageable);
 
+    CursorPage<EmployeeDTO> scrollEmployees(String cursor, int size, Sort sort);
+
     Page<EmployeeDTO> searchEmployees(String searchTerm, Pageable pageable);
 
+    Slice<EmployeeDTO> getEmployeeSlice(String searchTerm, Pageable pageable);
+
+    long countEmployees(String searchTerm);
+
+    /**
+     * Estimated number of employees (matching the search term, if any), without a count query
+     * on large results.
+     */
+    long estimateEmployees(String searchTerm);
+
+    /**
+     * One page of employees (optionally filtered), with the total computed as requested.
+     * Only {@link TotalMode#EXACT} runs a count query.
+     */
+    SlicePage<EmployeeDTO> getEmployeePage(String searchTerm, Pageable pageable, TotalMode total);
+
+    /**
+     * Same as {@link #getEmployeePage}, but selects only the given fields, keyed by property name.
+     */
+    SlicePage<Map<String, Object>> getEmployeeFields(String searchTerm, Pageable pageable, TotalMode total,
+                                                     Set<EmployeeField> fields);
+
+    List<EmployeeSuggestionDTO> suggestEmployees(String query, int limit);
+
     EmployeeDTO getEmployeeById(Integer id);
 
     EmployeeDTO createEmployee(EmployeeDTO employeeDTO);
 
-    EmployeeDTO updateEmployee(Integer id, EmployeeDTO employeeDTO);
+    long getChangeCount();
+
+    /**
+     * @param expectedVersion version the client last saw (If-Match), {@code null} to skip the check
+     */
+    EmployeeDTO updateEmployee(Integer id, EmployeeDTO employeeDTO, Long expectedVersion);
+
+    /**
+     * Applies a JSON Merge Patch; a patch that changes nothing does not write.
+     *
+     * @param expectedVersion version the client last saw (If-Match), {@code null} to skip the check
+     */
+    EmployeeDTO patchEmployee(Integer id, EmployeePatch patch, Long expectedVersion);
 
-    void deleteEmployee(Integer id);
+    /**
+     * @param expectedVersion version the client last saw (If-Match), {@code null} to skip the check
+     */
+    void deleteEmployee(Integer id, Long expectedVersion);
 
 }
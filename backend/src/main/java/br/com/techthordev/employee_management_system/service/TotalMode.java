@@ -0,0 +1,33 @@
+package br.com.techthordev.employee_management_system.service;
+
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * How the total of a paginated list is computed.
+ */
+public enum TotalMode {
+
+    /** No total, only whether a next page exists. */
+    NONE,
+
+    /** Estimate from PostgreSQL statistics, no count query. */
+    ESTIMATE,
+
+    /** {@code SELECT count(*)}. */
+    EXACT;
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static TotalMode fromName(String name) {
+        for (TotalMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        throw new BadRequestException("Unsupported total: " + name + " (expected none, estimate or exact)");
+    }
+}
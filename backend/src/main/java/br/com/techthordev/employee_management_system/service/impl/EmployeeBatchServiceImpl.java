@@ -0,0 +1,342 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.config.CacheConfig;
+import br.com.techthordev.employee_management_system.dto.BatchReport;
+import br.com.techthordev.employee_management_system.dto.BatchReport.ItemResult;
+import br.com.techthordev.employee_management_system.dto.BatchReport.Status;
+import br.com.techthordev.employee_management_system.dto.EmployeeBatchUpdate;
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.EmployeeLookup;
+import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import br.com.techthordev.employee_management_system.repository.EmployeeBulkRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeBulkRepository.UpdatedRow;
+import br.com.techthordev.employee_management_system.service.EmployeeBatchService;
+import br.com.techthordev.employee_management_system.service.EmployeeChange;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies batch updates and deletes in chunks of {@code employee.batch.chunk-size}.
+ * <p>
+ * Each chunk is one statement, and so one transaction, regardless of how many
+ * employees it touches. Invalid items are reported and skipped without
+ * affecting the rest of the batch. Multi-gets read the employee cache first.
+ */
+@Service
+@Timed(value = "employee.service", histogram = true)
+public class EmployeeBatchServiceImpl implements EmployeeBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBatchServiceImpl.class);
+
+    private final EmployeeBulkRepository bulkRepository;
+    private final EmployeeSuggestionIndex suggestionIndex;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache employeeCache;
+    private final int chunkSize;
+    private final int maxItems;
+    private final int maxIds;
+    private final int maxChangeEvents;
+
+    public EmployeeBatchServiceImpl(
+            EmployeeBulkRepository bulkRepository,
+            EmployeeSuggestionIndex suggestionIndex,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            CacheManager cacheManager,
+            @Value("${employee.batch.chunk-size:1000}") int chunkSize,
+            @Value("${employee.batch.max-items:100000}") int maxItems,
+            @Value("${employee.batch.max-ids:5000}") int maxIds,
+            @Value("${employee.feed.max-events-per-chunk:100}") int maxChangeEvents
+    ) {
+        this.bulkRepository = bulkRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.employeeCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.EMPLOYEES));
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+        this.maxIds = maxIds;
+        this.maxChangeEvents = maxChangeEvents;
+    }
+
+    // -------------------- UPDATE --------------------
+
+    @Override
+    public BatchReport updateEmployees(List<EmployeeBatchUpdate> updates) {
+        checkSize(updates);
+        long start = System.nanoTime();
+        ItemResult[] results = new ItemResult[updates.size()];
+        Set<Integer> seenIds = new HashSet<>(updates.size() * 2);
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+
+        for (int i = 0; i < updates.size(); i++) {
+            EmployeeBatchUpdate item = updates.get(i);
+            if (item == null) {
+                results[i] = invalid(i, null, List.of("Item must not be null"));
+                continue;
+            }
+
+            List<String> violations = validate(item);
+            if (!violations.isEmpty()) {
+                results[i] = invalid(i, item.id(), violations);
+                continue;
+            }
+            // UPDATE ... FROM applies only one of several source rows with the same id
+            if (!seenIds.add(item.id())) {
+                results[i] = invalid(i, item.id(), List.of("id: Duplicate id within the batch"));
+                continue;
+            }
+
+            chunk.add(i);
+            if (chunk.size() >= chunkSize) {
+                applyUpdates(updates, chunk, results);
+                chunk.clear();
+            }
+        }
+        applyUpdates(updates, chunk, results);
+
+        return report("update", results, start);
+    }
+
+    private void applyUpdates(List<EmployeeBatchUpdate> updates, List<Integer> chunk, ItemResult[] results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<EmployeeBatchUpdate> items = chunk.stream().map(updates::get).toList();
+        Map<Integer, UpdatedRow> updated;
+        try {
+            updated = bulkRepository.updateAll(items);
+        } catch (DuplicateKeyException ex) {
+            // one taken email fails the whole statement: retry the chunk item by item
+            if (chunk.size() > 1) {
+                for (Integer index : chunk) {
+                    applyUpdates(updates, List.of(index), results);
+                }
+            } else {
+                int index = chunk.getFirst();
+                results[index] = new ItemResult(index, items.getFirst().id(), Status.CONFLICT, null,
+                        List.of("email: Employee with this email already exists"));
+            }
+            return;
+        }
+
+        Set<Integer> existing = updated.size() < items.size()
+                ? bulkRepository.existingIds(missingIds(items, updated.keySet()))
+                : Set.of();
+        List<EmployeeChange> changes = new ArrayList<>();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i);
+            Integer id = items.get(i).id();
+            UpdatedRow row = updated.get(id);
+
+            if (row != null) {
+                EmployeeDTO dto = row.employee();
+                // a no-op item keeps its version, cached copies and ETags stay valid
+                if (row.changed()) {
+                    employeeCache.evict(id);
+                    suggestionIndex.upsert(toEntity(dto));
+                    changes.add(EmployeeChange.updated(dto));
+                }
+                results[index] = new ItemResult(index, id, Status.OK, dto.getVersion(), null);
+            } else if (existing.contains(id)) {
+                results[index] = new ItemResult(index, id, Status.CONFLICT, null,
+                        List.of("version: Employee has been modified since version " + items.get(i).version()));
+            } else {
+                results[index] = notFound(index, id);
+            }
+        }
+        publish(changes);
+    }
+
+    private List<Integer> missingIds(List<EmployeeBatchUpdate> items, Set<Integer> updatedIds) {
+        List<Integer> missing = new ArrayList<>();
+        for (EmployeeBatchUpdate item : items) {
+            if (!updatedIds.contains(item.id())) {
+                missing.add(item.id());
+            }
+        }
+        return missing;
+    }
+
+    // -------------------- DELETE --------------------
+
+    @Override
+    public BatchReport deleteEmployees(List<Integer> ids) {
+        checkSize(ids);
+        long start = System.nanoTime();
+        ItemResult[] results = new ItemResult[ids.size()];
+        Set<Integer> seenIds = new HashSet<>(ids.size() * 2);
+        List<Integer> chunk = new ArrayList<>(chunkSize);
+
+        for (int i = 0; i < ids.size(); i++) {
+            Integer id = ids.get(i);
+            if (id == null) {
+                results[i] = invalid(i, null, List.of("id: Id must not be null"));
+                continue;
+            }
+            if (!seenIds.add(id)) {
+                results[i] = invalid(i, id, List.of("id: Duplicate id within the batch"));
+                continue;
+            }
+
+            chunk.add(i);
+            if (chunk.size() >= chunkSize) {
+                applyDeletes(ids, chunk, results);
+                chunk.clear();
+            }
+        }
+        applyDeletes(ids, chunk, results);
+
+        return report("delete", results, start);
+    }
+
+    private void applyDeletes(List<Integer> ids, List<Integer> chunk, ItemResult[] results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> deleted = bulkRepository.deleteAll(chunk.stream().map(ids::get).toList());
+        List<EmployeeChange> changes = new ArrayList<>();
+
+        for (int index : chunk) {
+            Integer id = ids.get(index);
+            if (deleted.contains(id)) {
+                employeeCache.evict(id);
+                suggestionIndex.remove(id);
+                changes.add(EmployeeChange.deleted(id));
+                results[index] = new ItemResult(index, id, Status.OK, null, null);
+            } else {
+                results[index] = notFound(index, id);
+            }
+        }
+        publish(changes);
+    }
+
+    /**
+     * Publishes the changes of one chunk, or a single reset when there are more than
+     * {@code employee.feed.max-events-per-chunk}: a full chunk would push a thousand
+     * events through the feed buffer and every subscriber queue.
+     */
+    private void publish(List<EmployeeChange> changes) {
+        if (changes.size() > maxChangeEvents) {
+            eventPublisher.publishEvent(EmployeeChange.reset());
+            return;
+        }
+        for (EmployeeChange change : changes) {
+            eventPublisher.publishEvent(change);
+        }
+    }
+
+    // -------------------- GET --------------------
+
+    @Override
+    public EmployeeLookup<EmployeeDTO> getEmployees(List<Integer> ids) {
+        if (ids.size() > maxIds) {
+            throw new BadRequestException("Lookup of " + ids.size() + " ids exceeds the limit of " + maxIds);
+        }
+        if (ids.contains(null)) {
+            throw new BadRequestException("Ids must not be null");
+        }
+
+        Set<Integer> requested = new LinkedHashSet<>(ids);
+        Map<Integer, EmployeeDTO> found = new HashMap<>(requested.size() * 2);
+        List<Integer> misses = new ArrayList<>();
+        for (Integer id : requested) {
+            EmployeeDTO cached = employeeCache.get(id, EmployeeDTO.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            bulkRepository.findAllByIds(misses).forEach((id, dto) -> {
+                // a concurrent write may already have cached a newer version
+                employeeCache.putIfAbsent(id, dto);
+                found.put(id, dto);
+            });
+        }
+
+        List<EmployeeDTO> content = new ArrayList<>(found.size());
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : requested) {
+            EmployeeDTO dto = found.get(id);
+            if (dto != null) {
+                content.add(dto);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        logger.debug("Employee lookup of {} ids: {} from cache, {} missing",
+                requested.size(), requested.size() - misses.size(), missing.size());
+        return new EmployeeLookup<>(content, missing);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private void checkSize(List<?> items) {
+        if (items.size() > maxItems) {
+            throw new BadRequestException(
+                    "Batch of " + items.size() + " items exceeds the limit of " + maxItems);
+        }
+    }
+
+    private List<String> validate(EmployeeBatchUpdate item) {
+        Set<ConstraintViolation<EmployeeBatchUpdate>> violations = validator.validate(item);
+        List<String> messages = new ArrayList<>(violations.size());
+        for (ConstraintViolation<EmployeeBatchUpdate> v : violations) {
+            messages.add(v.getPropertyPath() + ": " + v.getMessage());
+        }
+        return messages;
+    }
+
+    private static ItemResult invalid(int index, Integer id, List<String> messages) {
+        return new ItemResult(index, id, Status.VALIDATION_ERROR, null, messages);
+    }
+
+    private static ItemResult notFound(int index, Integer id) {
+        return new ItemResult(index, id, Status.NOT_FOUND, null,
+                List.of("Employee not found with id " + id));
+    }
+
+    private static Employee toEntity(EmployeeDTO dto) {
+        Employee employee = new Employee(dto.getFirstName(), dto.getLastName(), dto.getEmail());
+        employee.setId(dto.getId());
+        return employee;
+    }
+
+    private BatchReport report(String operation, ItemResult[] results, long start) {
+        long succeeded = Arrays.stream(results).filter(r -> r.status() == Status.OK).count();
+        long failed = results.length - succeeded;
+
+        logger.info("Employee batch {} finished: {} received, {} succeeded, {} failed in {} ms",
+                operation, results.length, succeeded, failed, (System.nanoTime() - start) / 1_000_000);
+
+        return new BatchReport(results.length, succeeded, failed, Arrays.asList(results));
+    }
+}
@@ -0,0 +1,258 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeChangeEvent;
+import br.com.techthordev.employee_management_system.dto.EmployeeChangeEvent.Type;
+import br.com.techthordev.employee_management_system.service.EmployeeChange;
+import br.com.techthordev.employee_management_system.service.EmployeeChangeFeed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Fans employee changes out to Server-Sent Events subscribers.
+ * <p>
+ * The last {@code employee.feed.buffer-size} events are kept in a ring buffer
+ * so a reconnecting client can resume from its {@code Last-Event-ID}. Each
+ * subscriber has its own queue, drained by a virtual thread that blocks on the
+ * socket; writers only enqueue and never wait for a slow client. A subscriber
+ * that falls a full buffer behind is disconnected, it could not resume from the
+ * buffer anyway and gets a {@code RESET} when it reconnects.
+ */
+@Service
+public class EmployeeChangeFeedImpl implements EmployeeChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeFeedImpl.class);
+
+    // event ids are "<run>-<sequence>", so an id from before a restart is recognized and answered with RESET
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final EmployeeChangeEvent[] buffer;
+    private long lastSequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<EmployeeChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+    // runs one drainer per subscriber
+    private final Executor drainers;
+
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final Counter disconnected;
+
+    @Autowired
+    public EmployeeChangeFeedImpl(
+            @Value("${employee.feed.buffer-size:1024}") int bufferSize,
+            @Value("${employee.feed.timeout:30m}") Duration timeout,
+            @Value("${employee.feed.heartbeat:15s}") Duration heartbeat,
+            MeterRegistry meterRegistry
+    ) {
+        this(bufferSize, timeout, heartbeat, meterRegistry, virtualThreads());
+    }
+
+    EmployeeChangeFeedImpl(int bufferSize, Duration timeout, Duration heartbeat,
+                           MeterRegistry meterRegistry, Executor drainers) {
+        this.drainers = drainers;
+        this.buffer = new EmployeeChangeEvent[bufferSize];
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeatMillis = heartbeat.toMillis();
+
+        Gauge.builder("employee.feed.subscribers", subscribers, Set::size)
+                .description("Open employee change streams")
+                .register(meterRegistry);
+        this.disconnected = Counter.builder("employee.feed.lagging")
+                .description("Subscribers disconnected for falling a full buffer behind")
+                .register(meterRegistry);
+    }
+
+    private static Executor virtualThreads() {
+        ThreadFactory threadFactory = Thread.ofVirtual().name("employee-feed-", 0).factory();
+        return task -> threadFactory.newThread(task).start();
+    }
+
+    // -------------------- PUBLISH --------------------
+
+    /**
+     * Runs after commit; without a transaction (the repository writes commit on their own) immediately.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(EmployeeChange change) {
+        EmployeeChangeEvent event;
+        lock.lock();
+        try {
+            event = new EmployeeChangeEvent(
+                    ++lastSequence,
+                    change.type(),
+                    change.employeeId(),
+                    change.employee() == null ? null : change.employee().getVersion(),
+                    change.employee(),
+                    Instant.now()
+            );
+            buffer[slot(event.sequence())] = event;
+            // enqueued under the lock, so every subscriber sees the events in sequence order
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Consumer<EmployeeChangeEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException ex) {
+                logger.warn("Employee change listener failed", ex);
+            }
+        }
+    }
+
+    @Override
+    public void addListener(Consumer<EmployeeChangeEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(Consumer<EmployeeChangeEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    // -------------------- SUBSCRIBE --------------------
+
+    @Override
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // one slot more than the buffer: a full replay plus the first live event fit
+        Subscriber subscriber = new Subscriber(emitter, buffer.length + 1);
+
+        lock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId.trim());
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscriber.close());
+        drainers.execute(subscriber::run);
+        return emitter;
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long oldest = Math.max(1, lastSequence - buffer.length + 1);
+        long last = parseSequence(lastEventId);
+
+        if (last < oldest - 1 || last > lastSequence) {
+            // missed events are gone (or the id is from another run): the client has to refetch
+            subscriber.offer(new EmployeeChangeEvent(lastSequence, Type.RESET, null, null, null, Instant.now()));
+            return;
+        }
+        for (long sequence = last + 1; sequence <= lastSequence; sequence++) {
+            subscriber.offer(buffer[slot(sequence)]);
+        }
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(runId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    private String eventId(EmployeeChangeEvent event) {
+        return runId + "-" + event.sequence();
+    }
+
+    // -------------------- SUBSCRIBER --------------------
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<EmployeeChangeEvent> queue;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        void offer(EmployeeChangeEvent event) {
+            if (!queue.offer(event)) {
+                disconnected.increment();
+                logger.debug("Disconnecting employee change subscriber, {} events behind", queue.size());
+                close();
+            }
+        }
+
+        // not interrupting the drainer: it may be inside a socket write. It stops at the next
+        // event or heartbeat at the latest.
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+        }
+
+        void run() {
+            try {
+                // flushes the headers right away, the client knows the stream is open
+                emitter.send(SseEmitter.event().comment("connected").reconnectTime(heartbeatMillis));
+
+                while (!closed) {
+                    EmployeeChangeEvent event = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        // detects clients that went away without closing the connection
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                        continue;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(eventId(event))
+                            .name(event.type().name().toLowerCase(Locale.ROOT))
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+                emitter.complete();
+            } catch (InterruptedException ex) {
+                emitter.complete();
+            } catch (IOException | IllegalStateException ex) {
+                // client disconnected or the emitter already completed
+                logger.debug("Employee change subscriber gone: {}", ex.getMessage());
+            } finally {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.ImportReport;
+import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import br.com.techthordev.employee_management_system.repository.EmployeeBulkRepository;
+import br.com.techthordev.employee_management_system.service.EmployeeChange;
+import br.com.techthordev.employee_management_system.service.EmployeeFileFormat;
+import br.com.techthordev.employee_management_system.service.EmployeeImportService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams CSV / NDJSON employee rows from the request body into the database.
+ * <p>
+ * Rows are parsed and validated one line at a time and written in batches of
+ * {@code employee.import.batch-size}, so heap usage does not depend on the
+ * size of the upload.
+ */
+@Service
+@Timed(value = "employee.service", histogram = true)
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportServiceImpl.class);
+
+    private final EmployeeBulkRepository bulkRepository;
+    private final EmployeeSuggestionIndex suggestionIndex;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMapper jsonMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public EmployeeImportServiceImpl(
+            EmployeeBulkRepository bulkRepository,
+            EmployeeSuggestionIndex suggestionIndex,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            JsonMapper jsonMapper,
+            @Value("${employee.import.batch-size:1000}") int batchSize,
+            @Value("${employee.import.max-reported-errors:1000}") int maxReportedErrors
+    ) {
+        this.bulkRepository = bulkRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.jsonMapper = jsonMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportReport importEmployees(InputStream input, EmployeeFileFormat format) {
+        long start = System.nanoTime();
+        Run run = new Run();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvHeader header = null;
+            String line;
+            long lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == EmployeeFileFormat.CSV && header == null) {
+                    header = CsvHeader.parse(line);
+                    continue;
+                }
+
+                run.received++;
+                EmployeeDTO row;
+                try {
+                    row = format == EmployeeFileFormat.CSV ? header.toDto(line) : jsonMapper.readValue(line, EmployeeDTO.class);
+                } catch (JacksonException | IllegalArgumentException ex) {
+                    run.reject(lineNumber, List.of("Malformed row: " + ex.getMessage()));
+                    continue;
+                }
+                // an NDJSON line holding just "null" parses without error
+                if (row == null) {
+                    run.reject(lineNumber, List.of("Malformed row: expected a JSON object"));
+                    continue;
+                }
+
+                List<String> violations = validate(row);
+                if (!violations.isEmpty()) {
+                    run.reject(lineNumber, violations);
+                    continue;
+                }
+
+                run.add(lineNumber, row);
+                if (run.batch.size() >= batchSize) {
+                    flush(run);
+                }
+            }
+            flush(run);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            // one event for the whole import, not one per row: it would flush the feed buffer
+            // and every subscriber queue many times over. Also sent when the upload breaks off,
+            // the batches written until then are committed.
+            if (run.imported > 0) {
+                eventPublisher.publishEvent(EmployeeChange.reset());
+            }
+        }
+
+        logger.info("Employee import finished: {} received, {} imported, {} failed in {} ms",
+                run.received, run.imported, run.failed, (System.nanoTime() - start) / 1_000_000);
+
+        return new ImportReport(run.received, run.imported, run.failed, run.errors, run.errorsTruncated);
+    }
+
+    private List<String> validate(EmployeeDTO row) {
+        Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(row);
+        List<String> messages = new ArrayList<>(violations.size());
+        for (ConstraintViolation<EmployeeDTO> v : violations) {
+            messages.add(v.getPropertyPath() + ": " + v.getMessage());
+        }
+        return messages;
+    }
+
+    private void flush(Run run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> inserted = bulkRepository.insertAll(run.batch);
+
+        for (int i = 0; i < run.batch.size(); i++) {
+            EmployeeDTO row = run.batch.get(i);
+            Integer id = inserted.get(row.getEmail());
+            if (id == null) {
+                run.reject(run.batchLines.get(i), List.of("email: Employee with this email already exists"));
+                continue;
+            }
+            Employee employee = new Employee(row.getFirstName(), row.getLastName(), row.getEmail());
+            employee.setId(id);
+            suggestionIndex.upsert(employee);
+            run.imported++;
+        }
+
+        run.batch.clear();
+        run.batchLines.clear();
+        run.batchEmails.clear();
+    }
+
+    /**
+     * Mutable state of one import: counters, the pending batch and the bounded error list.
+     */
+    private final class Run {
+
+        long received;
+        long imported;
+        long failed;
+        final List<ImportReport.RowError> errors = new ArrayList<>();
+        boolean errorsTruncated;
+
+        final List<EmployeeDTO> batch = new ArrayList<>(batchSize);
+        final List<Long> batchLines = new ArrayList<>(batchSize);
+        final Set<String> batchEmails = new HashSet<>(batchSize * 2);
+
+        void add(long line, EmployeeDTO row) {
+            // the same email twice in one statement would be reported as success for both rows
+            if (!batchEmails.add(row.getEmail())) {
+                reject(line, List.of("email: Duplicate email within the import"));
+                return;
+            }
+            batch.add(row);
+            batchLines.add(line);
+        }
+
+        void reject(long line, List<String> messages) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportReport.RowError(line, messages));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    /**
+     * Column positions resolved from the CSV header line.
+     * Accepts camelCase or snake_case column names in any order.
+     */
+    private record CsvHeader(int columns, int firstName, int lastName, int email) {
+
+        static CsvHeader parse(String line) {
+            List<String> names = splitCsv(line);
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                positions.put(names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+            }
+
+            Integer firstName = positions.get("firstname");
+            Integer lastName = positions.get("lastname");
+            Integer email = positions.get("email");
+            if (firstName == null || lastName == null || email == null) {
+                throw new BadRequestException("CSV header must contain firstName, lastName and email columns");
+            }
+            return new CsvHeader(names.size(), firstName, lastName, email);
+        }
+
+        EmployeeDTO toDto(String line) {
+            List<String> values = splitCsv(line);
+            if (values.size() != columns) {
+                throw new IllegalArgumentException(
+                        "expected " + columns + " columns but found " + values.size());
+            }
+            return new EmployeeDTO(null, values.get(firstName), values.get(lastName), values.get(email));
+        }
+
+        // RFC 4180 fields on a single line: quoted fields may contain commas and "" escapes
+        static List<String> splitCsv(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("unterminated quoted field");
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
@@ -1,37 +1,88 @@
 package br.com.techthordev.employee_management_system.service.impl;
 
+import br.com.techthordev.employee_management_system.config.CacheConfig;
+import br.com.techthordev.employee_management_system.dto.CursorPage;
 import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.EmployeeField;
+import br.com.techthordev.employee_management_system.dto.EmployeePatch;
+import br.com.techthordev.employee_management_system.dto.EmployeeSuggestionDTO;
+import br.com.techthordev.employee_management_system.dto.SlicePage;
 import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import br.com.techthordev.employee_management_system.exception.PreconditionFailedException;
 import br.com.techthordev.employee_management_system.exception.ResourceNotFoundException;
+import br.com.techthordev.employee_management_system.repository.EmployeeBulkRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeCountRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeProjectionRepository;
 import br.com.techthordev.employee_management_system.repository.EmployeeRepository;
+import br.com.techthordev.employee_management_system.service.EmployeeChange;
 import br.com.techthordev.employee_management_system.service.EmployeeService;
+import br.com.techthordev.employee_management_system.service.TotalMode;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 
 @Service
+@Timed(value = "employee.service", histogram = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
+    // below this many (estimated) rows an exact count is cheap and statistics are least reliable
+    private static final long EXACT_COUNT_BELOW = 10_000;
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeBulkRepository bulkRepository;
+    private final EmployeeCountRepository countRepository;
+    private final EmployeeProjectionRepository projectionRepository;
+    private final EmployeeSuggestionIndex suggestionIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // constructor injection
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository,
+                               EmployeeBulkRepository bulkRepository,
+                               EmployeeCountRepository countRepository,
+                               EmployeeProjectionRepository projectionRepository,
+                               EmployeeSuggestionIndex suggestionIndex,
+                               ApplicationEventPublisher eventPublisher) {
         this.employeeRepository = employeeRepository;
+        this.bulkRepository = bulkRepository;
+        this.countRepository = countRepository;
+        this.projectionRepository = projectionRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.eventPublisher = eventPublisher;
     }
 
-    // map Entity -> DTO
-    private EmployeeDTO mapToDto(Employee employee) {
-        return new EmployeeDTO(
+    // map Entity -> DTO (package-private for benchmarks)
+    EmployeeDTO mapToDto(Employee employee) {
+        EmployeeDTO dto = new EmployeeDTO(
                 employee.getId(),
                 employee.getFirstName(),
                 employee.getLastName(),
                 employee.getEmail()
         );
+        dto.setVersion(employee.getVersion());
+        return dto;
     }
 
-    // map DTO -> Entity
-    private Employee mapToEntity(EmployeeDTO dto) {
+    // map DTO -> Entity (package-private for benchmarks)
+    Employee mapToEntity(EmployeeDTO dto) {
         Employee employee = new Employee();
         employee.setFirstName(dto.getFirstName());
         employee.setLastName(dto.getLastName());
@@ -45,13 +96,138 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .map(this::mapToDto);
     }
 
+    @Override
+    public CursorPage<EmployeeDTO> scrollEmployees(String cursor, int size, Sort sort) {
+        // id is always the last key so the ordering is total and the seek predicate is unique
+        Sort keysetSort = sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+        KeysetScrollPosition position = KeysetCursorCodec.decode(cursor, keysetSort);
+
+        Window<Employee> window = employeeRepository.findAllBy(position, keysetSort, Limit.of(size));
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? KeysetCursorCodec.encode((KeysetScrollPosition) window.positionAt(window.size() - 1), keysetSort)
+                : null;
+
+        return new CursorPage<>(
+                window.map(this::mapToDto).getContent(),
+                window.size(),
+                window.hasNext(),
+                nextCursor
+        );
+    }
+
     @Override
     public Page<EmployeeDTO> searchEmployees(String searchTerm, Pageable pageable) {
-        return employeeRepository.search(searchTerm, pageable)
+        String term = normalizeTerm(searchTerm);
+        return employeeRepository.search(likePattern(term), term, ranked(pageable))
                 .map(this::mapToDto);
     }
 
     @Override
+    public Slice<EmployeeDTO> getEmployeeSlice(String searchTerm, Pageable pageable) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return employeeRepository.findAllBy(pageable)
+                    .map(this::mapToDto);
+        }
+        String term = normalizeTerm(searchTerm);
+        return employeeRepository.searchSlice(likePattern(term), term, ranked(pageable))
+                .map(this::mapToDto);
+    }
+
+    @Override
+    public long countEmployees(String searchTerm) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return employeeRepository.count();
+        }
+        return employeeRepository.countSearch(likePattern(normalizeTerm(searchTerm)));
+    }
+
+    @Override
+    public long estimateEmployees(String searchTerm) {
+        long estimate = searchTerm == null || searchTerm.isBlank()
+                ? countRepository.estimateAll()
+                : countRepository.estimateSearch(likePattern(normalizeTerm(searchTerm)));
+        return estimate < EXACT_COUNT_BELOW ? countEmployees(searchTerm) : estimate;
+    }
+
+    @Override
+    public SlicePage<EmployeeDTO> getEmployeePage(String searchTerm, Pageable pageable, TotalMode total) {
+        if (total == TotalMode.EXACT) {
+            Page<EmployeeDTO> page = searchTerm == null || searchTerm.isBlank()
+                    ? getAllEmployees(pageable)
+                    : searchEmployees(searchTerm, pageable);
+            return SlicePage.of(page, page.getTotalElements(), TotalMode.EXACT);
+        }
+
+        return withTotal(getEmployeeSlice(searchTerm, pageable), searchTerm, total);
+    }
+
+    @Override
+    public SlicePage<Map<String, Object>> getEmployeeFields(String searchTerm, Pageable pageable, TotalMode total,
+                                                            Set<EmployeeField> fields) {
+        Slice<Map<String, Object>> slice;
+        if (searchTerm == null || searchTerm.isBlank()) {
+            slice = projectionRepository.findSlice(fields, pageable);
+        } else {
+            String term = normalizeTerm(searchTerm);
+            slice = projectionRepository.searchSlice(fields, likePattern(term), term, ranked(pageable));
+        }
+        return withTotal(slice, searchTerm, total);
+    }
+
+    private <T> SlicePage<T> withTotal(Slice<T> slice, String searchTerm, TotalMode total) {
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+
+        // the last page tells the exact total for free
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return SlicePage.of(slice, seen, TotalMode.EXACT);
+        }
+        return switch (total) {
+            case NONE -> SlicePage.of(slice, null, TotalMode.NONE);
+            case EXACT -> SlicePage.of(slice, countEmployees(searchTerm), TotalMode.EXACT);
+            case ESTIMATE -> {
+                // never report fewer rows than the client can already see (a page past the end shows none)
+                long visible = slice.hasContent() ? seen + (slice.hasNext() ? 1 : 0) : 0;
+                long estimate = Math.max(estimateEmployees(searchTerm), visible);
+                yield SlicePage.of(slice, estimate, TotalMode.ESTIMATE);
+            }
+        };
+    }
+
+    private String normalizeTerm(String searchTerm) {
+        return searchTerm.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String likePattern(String term) {
+        return "%" + escapeLike(term) + "%";
+    }
+
+    // results are ranked by relevance, a client sort cannot be applied to the native query
+    private Pageable ranked(Pageable pageable) {
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : Pageable.unpaged();
+    }
+
+    // escape LIKE wildcards so user input is matched literally (PostgreSQL default escape is '\')
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    @Override
+    public List<EmployeeSuggestionDTO> suggestEmployees(String query, int limit) {
+        return suggestionIndex.suggest(query, limit);
+    }
+
+    @Override
+    public long getChangeCount() {
+        return employeeRepository.changeCount();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
     public EmployeeDTO getEmployeeById(Integer id) {
         return employeeRepository.findById(id)
                 .map(this::mapToDto)
@@ -60,31 +236,82 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#result.id")
     public EmployeeDTO createEmployee(EmployeeDTO dto) {
         Employee employee = mapToEntity(dto);
         Employee saved =  employeeRepository.save(employee);
-        return mapToDto(saved);
+        suggestionIndex.upsert(saved);
+        EmployeeDTO created = mapToDto(saved);
+        eventPublisher.publishEvent(EmployeeChange.created(created));
+        return created;
     }
 
     @Override
-    public EmployeeDTO updateEmployee(Integer id, EmployeeDTO dto) {
-        Employee existing = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Employee not found with id " + id));
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public EmployeeDTO updateEmployee(Integer id, EmployeeDTO dto, Long expectedVersion) {
+        // single UPDATE ... RETURNING, no read before the write and no dirty checking
+        Employee updated = (expectedVersion == null
+                ? employeeRepository.updateRowById(
+                        id, dto.getFirstName(), dto.getLastName(), dto.getEmail())
+                : employeeRepository.updateRowByIdAndVersion(
+                        id, expectedVersion, dto.getFirstName(), dto.getLastName(), dto.getEmail()))
+                .orElseThrow(() -> writeMissed(id, expectedVersion));
 
-        existing.setFirstName(dto.getFirstName());
-        existing.setLastName(dto.getLastName());
-        existing.setEmail(dto.getEmail());
-
-        Employee updated = employeeRepository.save(existing);
-        return mapToDto(updated);
+        suggestionIndex.upsert(updated);
+        EmployeeDTO result = mapToDto(updated);
+        eventPublisher.publishEvent(EmployeeChange.updated(result));
+        return result;
     }
 
     @Override
-    public void deleteEmployee(Integer id) {
-        Employee existing = employeeRepository.findById(id)
+    @CachePut(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public EmployeeDTO patchEmployee(Integer id, EmployeePatch patch, Long expectedVersion) {
+        if (!patch.getRemovedFields().isEmpty()) {
+            throw new BadRequestException("Fields cannot be removed: " + String.join(", ", patch.getRemovedFields()));
+        }
+
+        // one UPDATE naming only the patched columns; matches no row if nothing changes
+        Optional<EmployeeDTO> patched = bulkRepository.patch(id, expectedVersion, patch);
+        if (patched.isPresent()) {
+            EmployeeDTO dto = patched.get();
+            Employee employee = new Employee(dto.getFirstName(), dto.getLastName(), dto.getEmail());
+            employee.setId(dto.getId());
+            suggestionIndex.upsert(employee);
+            eventPublisher.publishEvent(EmployeeChange.updated(dto));
+            return dto;
+        }
+
+        // nothing written: unknown id, stale version or a no-op patch
+        EmployeeDTO current = employeeRepository.findById(id)
+                .map(this::mapToDto)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Employee not found with id " + id));
-        employeeRepository.delete(existing);
+        if (expectedVersion != null && current.getVersion() != expectedVersion.longValue()) {
+            throw new PreconditionFailedException(
+                    "Employee " + id + " has been modified since version " + expectedVersion);
+        }
+        return current;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public void deleteEmployee(Integer id, Long expectedVersion) {
+        int deleted = expectedVersion == null
+                ? employeeRepository.deleteRowById(id)
+                : employeeRepository.deleteRowByIdAndVersion(id, expectedVersion);
+        if (deleted == 0) {
+            throw writeMissed(id, expectedVersion);
+        }
+        suggestionIndex.remove(id);
+        eventPublisher.publishEvent(EmployeeChange.deleted(id));
+    }
+
+    // no row matched: only a versioned write needs a second look to tell 404 from 412
+    private RuntimeException writeMissed(Integer id, Long expectedVersion) {
+        if (expectedVersion != null && employeeRepository.existsById(id)) {
+            return new PreconditionFailedException(
+                    "Employee " + id + " has been modified since version " + expectedVersion);
+        }
+        return new ResourceNotFoundException("Employee not found with id " + id);
     }
 }
@@ -0,0 +1,466 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeSuggestionDTO;
+import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+
+/**
+ * In-memory prefix index over employee first name, last name and email.
+ * <p>
+ * The bulk of the data lives in an immutable {@link Snapshot} of sorted, pooled
+ * UTF-8 byte arrays (no per-entry objects). Writes since the last snapshot are
+ * kept in a small concurrent delta. Once it grows past {@link #MAX_PENDING_CHANGES}
+ * a new snapshot is built on a background thread, one at a time, while writes keep
+ * going to the delta and to a change log; the log is replayed onto the new snapshot
+ * when it is swapped in. The startup load works the same way, with the database as
+ * source. Reads are lock-free.
+ * <p>
+ * Rough footprint per employee (avg. 6 + 7 + 25 characters):
+ * field pool 38 B + offsets 12 B + id 4 B, key pool 38 B + offsets 12 B + owners 12 B,
+ * i.e. ~116 B, about 110 MiB for 1M employees.
+ */
+@Component
+public class EmployeeSuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSuggestionIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int MAX_PENDING_CHANGES = 10_000;
+
+    // delta keys are "key\0id" so equal names of different employees do not collide
+    private static final char ID_SEPARATOR = '\u0000';
+
+    private final EmployeeRepository employeeRepository;
+    private final Executor compactor;
+    private final int maxPendingChanges;
+
+    private volatile State state = new State(Snapshot.build(List.of()));
+
+    // changes since the source of the snapshot being built, replayed onto it;
+    // null while no rebuild is running. Recording from the start covers writes before the load.
+    private List<Change> changeLog = new ArrayList<>();
+
+    @Autowired
+    public EmployeeSuggestionIndex(EmployeeRepository employeeRepository) {
+        this(employeeRepository,
+                task -> Thread.ofPlatform().name("suggestion-index-compactor").daemon().start(task),
+                MAX_PENDING_CHANGES);
+    }
+
+    EmployeeSuggestionIndex(EmployeeRepository employeeRepository, Executor compactor, int maxPendingChanges) {
+        this.employeeRepository = employeeRepository;
+        this.compactor = compactor;
+        this.maxPendingChanges = maxPendingChanges;
+    }
+
+    // -------------------- LIFECYCLE --------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        List<Entry> entries = new ArrayList<>();
+
+        try {
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<Employee> window;
+            do {
+                window = employeeRepository.findAllBy(position, Sort.by("id"), Limit.of(LOAD_BATCH_SIZE));
+                window.forEach(e -> entries.add(Entry.of(e)));
+                if (!window.isEmpty()) {
+                    position = window.positionAt(window.size() - 1);
+                }
+            } while (window.hasNext());
+        } catch (RuntimeException ex) {
+            // the delta keeps serving the writes made so far
+            cancelRebuild();
+            throw ex;
+        }
+
+        Snapshot snapshot = Snapshot.build(entries);
+        int replayed = swapIn(snapshot);
+
+        logger.info("Employee suggestion index built: {} employees, {} KiB, {} changes replayed, {} ms",
+                snapshot.size(), snapshot.footprintBytes() / 1024, replayed,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // -------------------- WRITES --------------------
+
+    public synchronized void upsert(Employee employee) {
+        Change change = new Change(employee.getId(), Entry.of(employee));
+        state.apply(change);
+        record(change);
+    }
+
+    public synchronized void remove(int id) {
+        Change change = new Change(id, null);
+        state.apply(change);
+        record(change);
+    }
+
+    private void record(Change change) {
+        if (changeLog != null) {
+            changeLog.add(change);
+        } else {
+            compactIfNeeded();
+        }
+    }
+
+    // -------------------- COMPACTION --------------------
+
+    /**
+     * Starts a background rebuild once the delta is large enough, unless one is running.
+     * Called with the monitor held; only copies the delta, which is bounded.
+     */
+    private void compactIfNeeded() {
+        State current = state;
+        if (changeLog != null || current.pendingChanges() < maxPendingChanges) {
+            return;
+        }
+
+        Snapshot base = current.base;
+        Set<Integer> hidden = Set.copyOf(current.removed);
+        List<Entry> delta = List.copyOf(current.deltaEntries.values());
+        changeLog = new ArrayList<>();
+
+        try {
+            compactor.execute(() -> compact(base, hidden, delta));
+        } catch (RuntimeException ex) {
+            // retried with the next write
+            logger.warn("Employee suggestion index compaction not started: {}", ex.getMessage());
+            changeLog = null;
+        }
+    }
+
+    private void compact(Snapshot base, Set<Integer> hidden, List<Entry> delta) {
+        try {
+            long start = System.nanoTime();
+            List<Entry> merged = new ArrayList<>(base.size() + delta.size());
+            for (int i = 0; i < base.size(); i++) {
+                if (!hidden.contains(base.ids[i])) {
+                    merged.add(base.entry(i));
+                }
+            }
+            merged.addAll(delta);
+
+            int replayed = swapIn(Snapshot.build(merged));
+            logger.debug("Employee suggestion index compacted: {} employees, {} changes replayed, {} ms",
+                    merged.size(), replayed, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException | OutOfMemoryError ex) {
+            logger.error("Employee suggestion index compaction failed", ex);
+            cancelRebuild();
+        }
+    }
+
+    /**
+     * Replaces the state with {@code snapshot} plus the changes recorded since its source was read.
+     *
+     * @return number of changes replayed
+     */
+    private synchronized int swapIn(Snapshot snapshot) {
+        State next = new State(snapshot);
+        List<Change> changes = changeLog;
+        changes.forEach(next::apply);
+        state = next;
+        changeLog = null;
+
+        // the replayed changes may already call for the next round
+        compactIfNeeded();
+        return changes.size();
+    }
+
+    // the current state already holds every change, only the replay is skipped
+    private synchronized void cancelRebuild() {
+        changeLog = null;
+    }
+
+    // -------------------- READS --------------------
+
+    /**
+     * Returns up to {@code limit} employees having a first name, last name or email
+     * starting with {@code query} (case-insensitive), ordered by the matching key.
+     */
+    public List<EmployeeSuggestionDTO> suggest(String query, int limit) {
+        String prefix = query.trim().toLowerCase(Locale.ROOT);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        State current = state;
+        List<Match> matches = new ArrayList<>(limit * 2);
+        current.base.collect(prefix.getBytes(StandardCharsets.UTF_8), limit, current.removed, matches);
+        current.collectDelta(prefix, limit, matches);
+        matches.sort(Comparator.comparing(Match::key));
+
+        Set<Integer> seen = new HashSet<>();
+        List<EmployeeSuggestionDTO> result = new ArrayList<>(limit);
+        for (Match match : matches) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (seen.add(match.id())) {
+                result.add(new EmployeeSuggestionDTO(match.id(), match.label()));
+            }
+        }
+        return result;
+    }
+
+    public long footprintBytes() {
+        return state.base.footprintBytes();
+    }
+
+    // -------------------- INTERNALS --------------------
+
+    record Entry(int id, String firstName, String lastName, String email) {
+
+        static Entry of(Employee employee) {
+            return new Entry(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail());
+        }
+
+        String label() {
+            return firstName + " " + lastName + " <" + email + ">";
+        }
+
+        String[] keys() {
+            return new String[] {
+                    firstName.toLowerCase(Locale.ROOT),
+                    lastName.toLowerCase(Locale.ROOT),
+                    email.toLowerCase(Locale.ROOT)
+            };
+        }
+    }
+
+    private record Match(String key, int id, String label) {}
+
+    /**
+     * An upsert, or a removal if {@code entry} is {@code null}.
+     */
+    private record Change(int id, Entry entry) {}
+
+    /**
+     * Mutable overlay on top of an immutable base snapshot.
+     * {@code removed} hides base entries that were updated or deleted.
+     */
+    private static final class State {
+
+        final Snapshot base;
+        final ConcurrentSkipListMap<String, Integer> deltaKeys = new ConcurrentSkipListMap<>();
+        final Map<Integer, Entry> deltaEntries = new ConcurrentHashMap<>();
+        final Set<Integer> removed = ConcurrentHashMap.newKeySet();
+
+        State(Snapshot base) {
+            this.base = base;
+        }
+
+        void apply(Change change) {
+            removeDelta(change.id());
+            // only base entries need hiding; ids new since the snapshot live in the delta alone
+            if (base.contains(change.id())) {
+                removed.add(change.id());
+            }
+            if (change.entry() != null) {
+                addDelta(change.entry());
+            }
+        }
+
+        int pendingChanges() {
+            return removed.size() + deltaEntries.size();
+        }
+
+        void addDelta(Entry entry) {
+            deltaEntries.put(entry.id(), entry);
+            for (String key : entry.keys()) {
+                deltaKeys.put(key + ID_SEPARATOR + entry.id(), entry.id());
+            }
+        }
+
+        void removeDelta(int id) {
+            Entry previous = deltaEntries.remove(id);
+            if (previous != null) {
+                for (String key : previous.keys()) {
+                    deltaKeys.remove(key + ID_SEPARATOR + id);
+                }
+            }
+        }
+
+        void collectDelta(String prefix, int limit, List<Match> matches) {
+            int found = 0;
+            for (Map.Entry<String, Integer> key
+                    : deltaKeys.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+                Entry entry = deltaEntries.get(key.getValue());
+                if (entry == null) {
+                    continue;
+                }
+                String plainKey = key.getKey().substring(0, key.getKey().lastIndexOf(ID_SEPARATOR));
+                matches.add(new Match(plainKey, entry.id(), entry.label()));
+                if (++found == limit * 3) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Immutable, compact index: all strings are stored as UTF-8 in two byte pools.
+     * <ul>
+     *     <li>{@code ids}/{@code fieldPool}/{@code fieldOffsets}: employees sorted by id,
+     *     three original-case fields each (first name, last name, email)</li>
+     *     <li>{@code keyPool}/{@code keyOffsets}/{@code keyOwners}: lower-cased keys sorted
+     *     bytewise, each pointing back to the employee index</li>
+     * </ul>
+     */
+    static final class Snapshot {
+
+        final int[] ids;
+        final byte[] fieldPool;
+        final int[] fieldOffsets;
+
+        final byte[] keyPool;
+        final int[] keyOffsets;
+        final int[] keyOwners;
+
+        private Snapshot(int[] ids, byte[] fieldPool, int[] fieldOffsets,
+                         byte[] keyPool, int[] keyOffsets, int[] keyOwners) {
+            this.ids = ids;
+            this.fieldPool = fieldPool;
+            this.fieldOffsets = fieldOffsets;
+            this.keyPool = keyPool;
+            this.keyOffsets = keyOffsets;
+            this.keyOwners = keyOwners;
+        }
+
+        static Snapshot build(List<Entry> source) {
+            List<Entry> entries = new ArrayList<>(source);
+            entries.sort(Comparator.comparingInt(Entry::id));
+
+            int n = entries.size();
+            int[] ids = new int[n];
+            int[] fieldOffsets = new int[n * 3 + 1];
+            ByteArrayOutputStream fields = new ByteArrayOutputStream(n * 40);
+
+            record Key(byte[] bytes, int owner) {}
+            List<Key> keys = new ArrayList<>(n * 3);
+
+            for (int i = 0; i < n; i++) {
+                Entry entry = entries.get(i);
+                ids[i] = entry.id();
+
+                String[] values = {entry.firstName(), entry.lastName(), entry.email()};
+                for (int f = 0; f < 3; f++) {
+                    fields.writeBytes(values[f].getBytes(StandardCharsets.UTF_8));
+                    fieldOffsets[i * 3 + f + 1] = fields.size();
+                }
+                for (String key : entry.keys()) {
+                    keys.add(new Key(key.getBytes(StandardCharsets.UTF_8), i));
+                }
+            }
+
+            keys.sort((a, b) -> Arrays.compareUnsigned(a.bytes(), b.bytes()));
+
+            int[] keyOffsets = new int[keys.size() + 1];
+            int[] keyOwners = new int[keys.size()];
+            ByteArrayOutputStream keyPool = new ByteArrayOutputStream(n * 40);
+            for (int k = 0; k < keys.size(); k++) {
+                keyPool.writeBytes(keys.get(k).bytes());
+                keyOffsets[k + 1] = keyPool.size();
+                keyOwners[k] = keys.get(k).owner();
+            }
+
+            return new Snapshot(ids, fields.toByteArray(), fieldOffsets,
+                    keyPool.toByteArray(), keyOffsets, keyOwners);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        long footprintBytes() {
+            return (long) ids.length * Integer.BYTES
+                    + fieldPool.length + (long) fieldOffsets.length * Integer.BYTES
+                    + keyPool.length + (long) keyOffsets.length * Integer.BYTES
+                    + (long) keyOwners.length * Integer.BYTES;
+        }
+
+        Entry entry(int index) {
+            return new Entry(ids[index], field(index, 0), field(index, 1), field(index, 2));
+        }
+
+        private String field(int index, int field) {
+            int from = fieldOffsets[index * 3 + field];
+            int to = fieldOffsets[index * 3 + field + 1];
+            return new String(fieldPool, from, to - from, StandardCharsets.UTF_8);
+        }
+
+        private String key(int k) {
+            return new String(keyPool, keyOffsets[k], keyOffsets[k + 1] - keyOffsets[k], StandardCharsets.UTF_8);
+        }
+
+        void collect(byte[] prefix, int limit, Set<Integer> removed, List<Match> matches) {
+            int found = 0;
+            for (int k = lowerBound(prefix); k < keyOwners.length && startsWith(k, prefix); k++) {
+                int owner = keyOwners[k];
+                if (removed.contains(ids[owner])) {
+                    continue;
+                }
+                Entry entry = entry(owner);
+                matches.add(new Match(key(k), entry.id(), entry.label()));
+                // an employee can match on up to three keys
+                if (++found == limit * 3) {
+                    break;
+                }
+            }
+        }
+
+        // first key that is >= prefix
+        private int lowerBound(byte[] prefix) {
+            int low = 0;
+            int high = keyOwners.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int cmp = Arrays.compareUnsigned(
+                        keyPool, keyOffsets[mid], keyOffsets[mid + 1], prefix, 0, prefix.length);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private boolean startsWith(int k, byte[] prefix) {
+            int length = keyOffsets[k + 1] - keyOffsets[k];
+            return length >= prefix.length
+                    && Arrays.equals(keyPool, keyOffsets[k], keyOffsets[k] + prefix.length,
+                    prefix, 0, prefix.length);
+        }
+    }
+}
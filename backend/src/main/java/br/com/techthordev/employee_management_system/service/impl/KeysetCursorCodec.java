@@ -0,0 +1,147 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes keyset scroll positions into opaque, URL-safe continuation tokens.
+ * <p>
+ * A token only carries the key values of the last row of a window
+ * (sort columns plus id) and the direction each was sorted in, so clients
+ * cannot build on its structure and a cursor is only accepted again with
+ * the sort it was issued for.
+ */
+final class KeysetCursorCodec {
+
+    private static final byte VERSION = 2;
+
+    private static final byte ASCENDING = 'A';
+    private static final byte DESCENDING = 'D';
+
+    private static final byte TYPE_STRING = 'S';
+    private static final byte TYPE_INTEGER = 'I';
+    private static final byte TYPE_LONG = 'L';
+
+    private KeysetCursorCodec() {}
+
+    static String encode(KeysetScrollPosition position, Sort sort) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(position.getKeys().size());
+            for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+                out.writeUTF(key.getKey());
+                out.writeByte(direction(sort, key.getKey()).isAscending() ? ASCENDING : DESCENDING);
+                writeValue(out, key.getValue());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a cursor issued for {@code sort}; the same keys must be sorted
+     * in the same directions, otherwise the seek would return the wrong window.
+     */
+    static KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+
+            if (in.readByte() != VERSION) {
+                throw new BadRequestException("Unsupported cursor version");
+            }
+
+            int count = in.readUnsignedByte();
+            Map<String, Object> keys = new LinkedHashMap<>(count * 2);
+            Map<String, Sort.Direction> directions = new LinkedHashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String property = in.readUTF();
+                directions.put(property, readDirection(in));
+                keys.put(property, readValue(in));
+            }
+            if (in.available() > 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            if (!matches(directions, sort)) {
+                throw new BadRequestException("Cursor does not match the requested sort order");
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private static Sort.Direction direction(Sort sort, String property) {
+        Sort.Order order = sort.getOrderFor(property);
+        if (order == null) {
+            throw new IllegalStateException("Keyset property not in sort: " + property);
+        }
+        return order.getDirection();
+    }
+
+    private static boolean matches(Map<String, Sort.Direction> directions, Sort sort) {
+        Set<String> properties = new HashSet<>();
+        for (Sort.Order order : sort) {
+            properties.add(order.getProperty());
+            if (order.getDirection() != directions.get(order.getProperty())) {
+                return false;
+            }
+        }
+        return properties.equals(directions.keySet());
+    }
+
+    private static Sort.Direction readDirection(DataInputStream in) throws IOException {
+        return switch (in.readByte()) {
+            case ASCENDING -> Sort.Direction.ASC;
+            case DESCENDING -> Sort.Direction.DESC;
+            default -> throw new BadRequestException("Invalid cursor");
+        };
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case String s -> {
+                out.writeByte(TYPE_STRING);
+                out.writeUTF(s);
+            }
+            case Integer i -> {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(i);
+            }
+            case Long l -> {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(l);
+            }
+            default -> throw new IllegalStateException(
+                    "Unsupported keyset value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        return switch (in.readByte()) {
+            case TYPE_STRING -> in.readUTF();
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_LONG -> in.readLong();
+            default -> throw new BadRequestException("Invalid cursor");
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.techthordev.employee_management_system.views;
+
+import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
+
+/**
+ * Enables server push, so views can show employee changes as they happen.
+ */
+@Push
+public class AdminAppShell implements AppShellConfigurator {
+}
@@ -1,17 +1,31 @@
 package br.com.techthordev.employee_management_system.views;
 
+import br.com.techthordev.employee_management_system.dto.EmployeeChangeEvent;
 import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
-import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.service.EmployeeChangeFeed;
 import br.com.techthordev.employee_management_system.service.EmployeeService;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
-import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Admin view to manage employees using Vaadin 25 Flow.
@@ -22,12 +36,24 @@ import org.springframework.data.domain.Pageable;
 public class AdminMainView extends VerticalLayout {
 
     private final EmployeeService employeeService;
+    private final EmployeeChangeFeed changeFeed;
     private final Grid<EmployeeDTO> employeeGrid = new Grid<>(EmployeeDTO.class);
     private final TextField filterText = new TextField();
 
-    // Spring Boot 4 automatically injects the service
-    public AdminMainView(EmployeeService employeeService) {
+    // Lazy, undefined size: the grid only asks for the rows in the viewport and never for a count
+    private GridLazyDataView<EmployeeDTO> dataView;
+    private String filter;
+
+    // Changes arrive through server push instead of re-fetching the grid on a timer
+    private Consumer<EmployeeChangeEvent> changeListener;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final AtomicBoolean updatesPending = new AtomicBoolean();
+    private final Map<Integer, EmployeeDTO> pendingUpdates = new ConcurrentHashMap<>();
+
+    // Spring Boot 4 automatically injects the services
+    public AdminMainView(EmployeeService employeeService, EmployeeChangeFeed changeFeed) {
         this.employeeService = employeeService;
+        this.changeFeed = changeFeed;
 
         setSizeFull();
         configureGrid();
@@ -60,18 +86,80 @@ public class AdminMainView extends VerticalLayout {
 
         // Automatic column sizing for better readability on your Fedora screen
         employeeGrid.getColumns().forEach(col -> col.setAutoWidth(true));
+
+        dataView = employeeGrid.setItems(this::fetchEmployees);
+        // refreshItem() matches rows by id, pushed DTOs are new instances
+        dataView.setIdentifierProvider(EmployeeDTO::getId);
     }
 
-    private void updateList() {
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        UI ui = attachEvent.getUI();
+        changeListener = event -> onEmployeeChange(ui, event);
+        changeFeed.addListener(changeListener);
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        changeFeed.removeListener(changeListener);
+        super.onDetach(detachEvent);
+    }
+
+    // Called on the writing thread: only schedules work on the UI, coalescing bursts
+    // (batch updates, imports) into one UI access each
+    private void onEmployeeChange(UI ui, EmployeeChangeEvent event) {
+        try {
+            if (event.type() == EmployeeChangeEvent.Type.UPDATED) {
+                // updated rows are replaced in place, without a query
+                pendingUpdates.put(event.employeeId(), event.employee());
+                if (updatesPending.compareAndSet(false, true)) {
+                    ui.access(() -> {
+                        updatesPending.set(false);
+                        for (Integer id : pendingUpdates.keySet()) {
+                            EmployeeDTO employee = pendingUpdates.remove(id);
+                            if (employee != null) {
+                                dataView.refreshItem(employee);
+                            }
+                        }
+                    });
+                }
+            } else if (refreshPending.compareAndSet(false, true)) {
+                // rows were added or removed: the visible range is fetched again
+                ui.access(() -> {
+                    refreshPending.set(false);
+                    dataView.refreshAll();
+                });
+            }
+        } catch (UIDetachedException ex) {
+            changeFeed.removeListener(changeListener);
+        }
+    }
 
+    private void updateList() {
         String searchTerm = filterText.getValue();
 
-        // Using Pageable.unpaged() to get all records for the admin overview
-        var employeePage = (searchTerm == null || searchTerm.isEmpty())
-                ? employeeService.getAllEmployees(Pageable.unpaged())
-                : employeeService.searchEmployees(searchTerm, Pageable.unpaged());
+        // Pushes the filter down to the repository, the grid refreshes lazily
+        filter = searchTerm == null || searchTerm.isBlank() ? null : searchTerm.trim();
+
+        // Filtered rows come back ranked by relevance, a column sort would not apply
+        boolean sortable = filter == null;
+        employeeGrid.getColumns().forEach(col -> col.setSortable(sortable));
+        if (!sortable && !employeeGrid.getSortOrder().isEmpty()) {
+            employeeGrid.sort(List.of());
+        }
+        dataView.refreshAll();
+
+        // Sizes the scrollbar from statistics; the grid finds the real end while scrolling
+        long estimate = employeeService.estimateEmployees(filter);
+        dataView.setItemCountEstimate(Math.clamp(estimate, 1, Integer.MAX_VALUE));
+    }
 
-        // Page provides a getContent() method to get the actual List<EmployeeDTO>
-        employeeGrid.setItems(employeePage.getContent());
+    private Stream<EmployeeDTO> fetchEmployees(Query<EmployeeDTO, Void> query) {
+        // Grid sort order maps to Spring Data Sort; Slice avoids a count query per page
+        return employeeService.getEmployeeSlice(
+                filter,
+                VaadinSpringDataHelpers.toSpringPageRequest(query)
+        ).stream();
     }
 }
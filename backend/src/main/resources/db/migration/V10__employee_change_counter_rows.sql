@@ -0,0 +1,49 @@
+-- ==========================================
+-- Flyway V10
+-- Only count statements that changed employee rows
+-- ==========================================
+
+-- --------------------------
+-- EMPLOYEE CHANGE COUNTER (weak ETag for list pages)
+-- --------------------------
+-- The V6 trigger fired for every statement, also for those that touched no row
+-- (a rejected If-Match, a batch chunk of no-op updates, an import batch whose
+-- emails all exist), and so changed the list ETag without a change.
+-- Transition tables tell whether a row was written; they need one trigger per
+-- event. Still one increment per statement, bulk imports do not pay per row.
+CREATE OR REPLACE FUNCTION public.employee_count_row_change() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF EXISTS (SELECT 1 FROM changed_rows) THEN
+        UPDATE public.employee_change_counter
+        SET changes = changes + 1
+        WHERE slot = pg_backend_pid() % 16;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+ALTER FUNCTION public.employee_count_row_change() OWNER TO springconnector;
+
+DROP TRIGGER IF EXISTS employee_count_change ON public.employee;
+
+CREATE TRIGGER employee_count_insert
+    AFTER INSERT ON public.employee
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION public.employee_count_row_change();
+
+CREATE TRIGGER employee_count_update
+    AFTER UPDATE ON public.employee
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION public.employee_count_row_change();
+
+CREATE TRIGGER employee_count_delete
+    AFTER DELETE ON public.employee
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION public.employee_count_row_change();
+
+-- TRUNCATE has no transition table, it keeps the unconditional V6 function
+CREATE TRIGGER employee_count_truncate
+    AFTER TRUNCATE ON public.employee
+    FOR EACH STATEMENT EXECUTE FUNCTION public.employee_count_change();
@@ -0,0 +1,17 @@
+-- ==========================================
+-- Flyway V4
+-- Composite indexes backing keyset pagination
+-- (sort column + id as tie-breaker)
+-- ==========================================
+
+-- --------------------------
+-- EMPLOYEE
+-- --------------------------
+CREATE INDEX IF NOT EXISTS idx_employee_last_name_id
+    ON public.employee (last_name, id);
+
+CREATE INDEX IF NOT EXISTS idx_employee_first_name_id
+    ON public.employee (first_name, id);
+
+CREATE INDEX IF NOT EXISTS idx_employee_email_id
+    ON public.employee (email, id);
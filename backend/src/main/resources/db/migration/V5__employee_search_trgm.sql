@@ -0,0 +1,21 @@
+-- ==========================================
+-- Flyway V5
+-- Trigram indexes for employee search
+-- (substring search on lower(column) LIKE '%term%')
+-- ==========================================
+
+-- pg_trgm is a trusted extension (PostgreSQL 13+),
+-- the database owner may create it.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- --------------------------
+-- EMPLOYEE
+-- --------------------------
+CREATE INDEX IF NOT EXISTS idx_employee_first_name_trgm
+    ON public.employee USING gin (lower(first_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employee_last_name_trgm
+    ON public.employee USING gin (lower(last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employee_email_trgm
+    ON public.employee USING gin (lower(email) gin_trgm_ops);
@@ -0,0 +1,46 @@
+-- ==========================================
+-- Flyway V6
+-- Optimistic locking and change counter for HTTP ETags
+-- ==========================================
+
+-- --------------------------
+-- EMPLOYEE (row version, JPA @Version / strong ETag)
+-- --------------------------
+ALTER TABLE public.employee
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- --------------------------
+-- EMPLOYEE CHANGE COUNTER (weak ETag for list pages)
+-- --------------------------
+-- Sharded so concurrent writers do not queue on a single row;
+-- the ETag is sum(changes). Updated inside the writing transaction,
+-- so a rolled-back write never changes the ETag.
+CREATE TABLE IF NOT EXISTS public.employee_change_counter (
+    slot    SMALLINT PRIMARY KEY,
+    changes BIGINT NOT NULL DEFAULT 0
+);
+
+ALTER TABLE public.employee_change_counter OWNER TO springconnector;
+
+INSERT INTO public.employee_change_counter (slot)
+SELECT generate_series(0, 15)
+ON CONFLICT DO NOTHING;
+
+CREATE OR REPLACE FUNCTION public.employee_count_change() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    UPDATE public.employee_change_counter
+    SET changes = changes + 1
+    WHERE slot = pg_backend_pid() % 16;
+    RETURN NULL;
+END;
+$$;
+
+ALTER FUNCTION public.employee_count_change() OWNER TO springconnector;
+
+-- one increment per statement, bulk imports do not pay per row
+DROP TRIGGER IF EXISTS employee_count_change ON public.employee;
+CREATE TRIGGER employee_count_change
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON public.employee
+    FOR EACH STATEMENT EXECUTE FUNCTION public.employee_count_change();
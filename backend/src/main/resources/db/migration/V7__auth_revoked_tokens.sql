@@ -0,0 +1,21 @@
+-- ==========================================
+-- Flyway V7
+-- Revoked access tokens (JWT denylist)
+-- ==========================================
+
+-- --------------------------
+-- REVOKED TOKENS
+-- --------------------------
+-- One row per revoked token id (jti claim). Rows are only needed until the
+-- token would have expired anyway; expired rows are deleted by the application.
+CREATE TABLE IF NOT EXISTS auth.revoked_tokens (
+    jti        UUID PRIMARY KEY,
+    username   VARCHAR(50) NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+ALTER TABLE auth.revoked_tokens OWNER TO springconnector;
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at
+    ON auth.revoked_tokens (expires_at);
@@ -0,0 +1,28 @@
+-- ==========================================
+-- Flyway V8
+-- Refresh tokens (rotation with reuse detection)
+-- ==========================================
+
+-- --------------------------
+-- REFRESH TOKENS
+-- --------------------------
+-- Only the SHA-256 of a token is stored. Every refresh marks the presented
+-- token as used and issues a successor in the same family; presenting a used
+-- token again revokes the whole family.
+CREATE TABLE IF NOT EXISTS auth.refresh_tokens (
+    token_hash BYTEA PRIMARY KEY,
+    family_id  UUID        NOT NULL,
+    username   VARCHAR(50) NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    used_at    TIMESTAMPTZ,
+    revoked_at TIMESTAMPTZ
+);
+
+ALTER TABLE auth.refresh_tokens OWNER TO springconnector;
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id
+    ON auth.refresh_tokens (family_id);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at
+    ON auth.refresh_tokens (expires_at);
@@ -0,0 +1,26 @@
+-- ==========================================
+-- Flyway V9
+-- Stored responses for Idempotency-Key replays
+-- ==========================================
+
+-- --------------------------
+-- IDEMPOTENCY KEYS
+-- --------------------------
+-- Optional second level behind the in-memory store (idempotency.jdbc.enabled):
+-- replays survive restarts and are shared between instances.
+-- scope_hash is the SHA-256 of user, method, path and key.
+CREATE TABLE IF NOT EXISTS public.idempotency_keys (
+    scope_hash   BYTEA PRIMARY KEY,
+    request_hash BYTEA         NOT NULL,
+    status       SMALLINT      NOT NULL,
+    content_type VARCHAR(255),
+    etag         VARCHAR(255),
+    location     VARCHAR(2048),
+    body         BYTEA         NOT NULL,
+    expires_at   TIMESTAMPTZ   NOT NULL
+);
+
+ALTER TABLE public.idempotency_keys OWNER TO springconnector;
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at
+    ON public.idempotency_keys (expires_at);
@@ -0,0 +1,211 @@
+package br.com.techthordev.employee_management_system.config;
+
+import br.com.techthordev.employee_management_system.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class IdempotencyFilterTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(
+            mock(IdempotencyKeyRepository.class), DataSize.ofMegabytes(1), Duration.ofHours(1), false);
+
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            store, JsonMapper.builder().build(), Duration.ofMillis(200), DataSize.ofBytes(64), new SimpleMeterRegistry());
+
+    // counts the requests that reached the handler
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void retryIsReplayedWithoutRunningAgain() throws Exception {
+        FilterChain created = handler(201, "{\"id\":1}");
+
+        MockHttpServletResponse first = send(request("key-1", "{\"firstName\":\"Ann\"}"), created);
+        MockHttpServletResponse retry = send(request("key-1", "{\"firstName\":\"Ann\"}"), created);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(retry.getHeader(HttpHeaders.ETAG)).isEqualTo("\"0\"");
+        assertThat(retry.getHeader(HttpHeaders.LOCATION)).isEqualTo("/api/v1/employees/1");
+        assertThat(retry.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    void otherKeysRunSeparately() throws Exception {
+        FilterChain created = handler(201, "{\"id\":1}");
+
+        send(request("key-1", "{}"), created);
+        send(request("key-2", "{}"), created);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void sameKeyWithAnotherBodyIsRejected() throws Exception {
+        FilterChain created = handler(201, "{\"id\":1}");
+
+        send(request("key-1", "{\"firstName\":\"Ann\"}"), created);
+        MockHttpServletResponse retry = send(request("key-1", "{\"firstName\":\"Bob\"}"), created);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void rejectsBlankAndOverlongKeys() throws Exception {
+        FilterChain created = handler(201, "{\"id\":1}");
+
+        assertThat(send(request(" ", "{}"), created).getStatus()).isEqualTo(400);
+        assertThat(send(request("k".repeat(256), "{}"), created).getStatus()).isEqualTo(400);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void serverErrorsAreNotStored() throws Exception {
+        FilterChain failing = handler(503, "{}");
+
+        send(request("key-1", "{}"), failing);
+        MockHttpServletResponse retry = send(request("key-1", "{}"), handler(201, "{\"id\":1}"));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void oversizedResponseIsNotRunTwice() throws Exception {
+        String large = "[" + "1,".repeat(50) + "1]";
+        FilterChain imported = handler(200, large);
+
+        MockHttpServletResponse first = send(request("key-1", "{}"), imported);
+        MockHttpServletResponse retry = send(request("key-1", "{}"), imported);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getContentAsString()).isEqualTo(large);
+        assertThat(retry.getStatus()).isEqualTo(409);
+        assertThat(retry.getContentAsString()).contains("status 200", "too large to replay");
+    }
+
+    @Test
+    void duplicateWaitsForTheRunningRequest() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = waitingHandler(running, release);
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> sendUnchecked(slow));
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> sendUnchecked(slow));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void duplicateGivesUpAfterTheWaitTimeout() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = waitingHandler(running, release);
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> sendUnchecked(slow));
+        running.await(5, TimeUnit.SECONDS);
+        MockHttpServletResponse duplicate = send(request("key-1", "{}"), slow);
+        release.countDown();
+
+        assertThat(duplicate.getStatus()).isEqualTo(409);
+        assertThat(duplicate.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void requestsWithoutKeyOrOutsideTheWritePathsPassThrough() throws Exception {
+        FilterChain created = handler(201, "{\"id\":1}");
+
+        MockHttpServletRequest noKey = request("key-1", "{}");
+        noKey.removeHeader(IdempotencyFilter.IDEMPOTENCY_KEY);
+        send(noKey, created);
+        send(noKey, created);
+
+        MockHttpServletRequest otherPath = request("key-2", "{}");
+        otherPath.setRequestURI("/api/v1/auth/login");
+        send(otherPath, created);
+        send(otherPath, created);
+
+        assertThat(executions).hasValue(4);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private FilterChain handler(int status, String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            StreamUtils.copyToByteArray(request.getInputStream());
+
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.setHeader(HttpHeaders.ETAG, "\"0\"");
+            http.setHeader(HttpHeaders.LOCATION, "/api/v1/employees/1");
+            http.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private FilterChain waitingHandler(CountDownLatch running, CountDownLatch release) {
+        FilterChain created = handler(201, "{\"id\":1}");
+        return (request, response) -> {
+            running.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(ex);
+            }
+            created.doFilter(request, response);
+        };
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse sendUnchecked(FilterChain chain) {
+        try {
+            return send(request("key-1", "{}"), chain);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/employees");
+        request.setContextPath("/api");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,186 @@
+package br.com.techthordev.employee_management_system.config;
+
+import br.com.techthordev.employee_management_system.dto.IdempotentResponse;
+import br.com.techthordev.employee_management_system.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class IdempotencyStoreTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final IdempotencyKeyRepository repository = mock(IdempotencyKeyRepository.class);
+
+    private IdempotencyStore store = store(DataSize.ofMegabytes(1), false);
+
+    @Test
+    void duplicateWaitsForTheFirstResponse() throws Exception {
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+        assertThat(store.claim("k", entry)).isNull();
+
+        IdempotencyStore.Entry first = store.claim("k", new IdempotencyStore.Entry());
+        assertThat(first).isSameAs(entry);
+
+        IdempotentResponse response = response(201, "created");
+        store.complete("k", entry, response);
+
+        assertThat(first.await(WAIT)).isSameAs(response);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void claimAfterCompletionGetsTheStoredResponse() throws Exception {
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+        store.claim("k", entry);
+        IdempotentResponse response = response(200, "ok");
+        store.complete("k", entry, response);
+
+        IdempotencyStore.Entry replay = store.claim("k", new IdempotencyStore.Entry());
+
+        assertThat(replay).isNotNull();
+        assertThat(replay.await(Duration.ZERO)).isSameAs(response);
+    }
+
+    @Test
+    void abandonedClaimIsTakenOver() throws Exception {
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+        store.claim("k", entry);
+        IdempotencyStore.Entry waiting = store.claim("k", new IdempotencyStore.Entry());
+
+        store.abandon("k", entry);
+
+        assertThat(waiting.await(WAIT)).isNull();
+        assertThat(store.claim("k", new IdempotencyStore.Entry())).isNull();
+    }
+
+    @Test
+    void awaitTimesOutWhileTheFirstRequestRuns() {
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+        store.claim("k", entry);
+
+        assertThatThrownBy(() -> store.claim("k", new IdempotencyStore.Entry()).await(Duration.ofMillis(50)))
+                .isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void concurrentClaimsHaveOneOwner() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<IdempotencyStore.Entry>> claims = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                claims.add(executor.submit(() -> {
+                    start.await();
+                    return store.claim("k", new IdempotencyStore.Entry());
+                }));
+            }
+            start.countDown();
+
+            int owners = 0;
+            for (Future<IdempotencyStore.Entry> claim : claims) {
+                if (claim.get() == null) {
+                    owners++;
+                }
+            }
+            assertThat(owners).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void runningClaimsSurviveEvictionOfResponses() {
+        store = store(DataSize.ofKilobytes(4), false);
+        IdempotencyStore.Entry running = new IdempotencyStore.Entry();
+        store.claim("running", running);
+
+        // far more than 4 KB of responses
+        for (int i = 0; i < 100; i++) {
+            IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+            store.claim("done-" + i, entry);
+            store.complete("done-" + i, entry, response(200, "x".repeat(1024)));
+        }
+
+        assertThat(store.claim("running", new IdempotencyStore.Entry())).isSameAs(running);
+    }
+
+    @Test
+    void jdbcStoresResponsesAndReplaysThemOnAMiss() throws Exception {
+        store = store(DataSize.ofMegabytes(1), true);
+        IdempotentResponse stored = response(201, "from the table");
+        when(repository.find(any())).thenReturn(Optional.empty(), Optional.of(stored));
+
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+        assertThat(store.claim("k", entry)).isNull();
+        IdempotentResponse response = response(201, "created");
+        store.complete("k", entry, response);
+        verify(repository).insert(any(), eq(response), any(Instant.class));
+
+        // another instance or a restart: nothing in memory
+        IdempotencyStore other = store(DataSize.ofMegabytes(1), true);
+        IdempotencyStore.Entry replay = other.claim("k", new IdempotencyStore.Entry());
+
+        assertThat(replay.await(Duration.ZERO)).isSameAs(stored);
+    }
+
+    @Test
+    void failedLookupReleasesTheClaim() {
+        store = store(DataSize.ofMegabytes(1), true);
+        when(repository.find(any()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> store.claim("k", new IdempotencyStore.Entry()))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(store.claim("k", new IdempotencyStore.Entry())).isNull();
+    }
+
+    @Test
+    void failedInsertStillCompletes() throws Exception {
+        store = store(DataSize.ofMegabytes(1), true);
+        when(repository.find(any())).thenReturn(Optional.empty());
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(repository).insert(any(), any(), any());
+
+        IdempotencyStore.Entry entry = new IdempotencyStore.Entry();
+        store.claim("k", entry);
+        IdempotentResponse response = response(200, "ok");
+        store.complete("k", entry, response);
+
+        assertThat(store.claim("k", new IdempotencyStore.Entry()).await(Duration.ZERO)).isSameAs(response);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private IdempotencyStore store(DataSize maxMemory, boolean jdbcEnabled) {
+        return new IdempotencyStore(repository, maxMemory, Duration.ofHours(1), jdbcEnabled);
+    }
+
+    private static IdempotentResponse response(int status, String body) {
+        return new IdempotentResponse(new byte[32], status, "application/json", null, null, body.getBytes());
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.techthordev.employee_management_system.controller;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.exception.GlobalExceptionHandler;
+import br.com.techthordev.employee_management_system.exception.PreconditionFailedException;
+import br.com.techthordev.employee_management_system.exception.ResourceNotFoundException;
+import br.com.techthordev.employee_management_system.service.EmployeeBatchService;
+import br.com.techthordev.employee_management_system.service.EmployeeChangeFeed;
+import br.com.techthordev.employee_management_system.service.EmployeeExportService;
+import br.com.techthordev.employee_management_system.service.EmployeeImportService;
+import br.com.techthordev.employee_management_system.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeControllerTest {
+
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new EmployeeController(
+                    employeeService,
+                    mock(EmployeeImportService.class),
+                    mock(EmployeeExportService.class),
+                    mock(EmployeeBatchService.class),
+                    mock(EmployeeChangeFeed.class)))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void patchWithBlankEmailIsRejected() throws Exception {
+        mockMvc.perform(patch("/employees/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\":\"\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).patchEmployee(any(), any(), any());
+    }
+
+    @Test
+    void patchWithBlankNameIsRejected() throws Exception {
+        mockMvc.perform(patch("/employees/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"  \"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).patchEmployee(any(), any(), any());
+    }
+
+    @Test
+    void idsWithCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/employees").param("ids", "1,2").param("cursor", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    // -------------------- IF-MATCH --------------------
+
+    @Test
+    void ifMatchWildcardWritesUnconditionally() throws Exception {
+        mockMvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isNoContent());
+
+        verify(employeeService).deleteEmployee(1, null);
+    }
+
+    @Test
+    void ifMatchStrongTagIsPassedAsVersion() throws Exception {
+        EmployeeDTO updated = new EmployeeDTO(1, "Ann", "Lee", "ann@x.io");
+        updated.setVersion(4L);
+        when(employeeService.updateEmployee(eq(1), any(), eq(3L))).thenReturn(updated);
+
+        mockMvc.perform(put("/employees/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"email\":\"ann@x.io\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void ifMatchWeakOrForeignTagNeverMatches() throws Exception {
+        mockMvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "W/\"3\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "\"abc\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(employeeService, never()).deleteEmployee(any(), any());
+    }
+
+    @Test
+    void ifMatchWithSeveralTagsIsRejected() throws Exception {
+        mockMvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "\"3\", \"4\""))
+                .andExpect(status().isBadRequest());
+
+        verify(employeeService, never()).deleteEmployee(any(), any());
+    }
+
+    @Test
+    void staleVersionAndUnknownIdAreToldApart() throws Exception {
+        doThrow(new PreconditionFailedException("stale")).when(employeeService).deleteEmployee(1, 3L);
+        doThrow(new ResourceNotFoundException("unknown")).when(employeeService).deleteEmployee(2, 3L);
+
+        mockMvc.perform(delete("/employees/1").header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/employees/2").header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.techthordev.employee_management_system.security;
+
+import br.com.techthordev.employee_management_system.exception.ApiError;
+import br.com.techthordev.employee_management_system.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch running = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // one hashing thread and one waiting slot
+    private final BoundedPasswordEncoder encoder =
+            new BoundedPasswordEncoder(new WaitingEncoder(), 1, 1, 7, meterRegistry);
+
+    @AfterEach
+    void releaseAndClose() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void checksRunOnThePool() {
+        release.countDown();
+
+        assertThat(encoder.matches("secret", "hash:secret")).isTrue();
+        assertThat(encoder.matches("other", "hash:secret")).isFalse();
+        assertThat(encoder.encode("secret")).isEqualTo("hash:secret");
+        assertThat(encoder.upgradeEncoding("hash:secret")).isTrue();
+    }
+
+    @Test
+    void fullQueueRejectsWithRetryAfter() throws Exception {
+        saturate();
+
+        LoginThrottledException ex = catchThrowableOfType(LoginThrottledException.class,
+                () -> encoder.matches("secret", "hash:secret"));
+        assertThat(ex.getRetryAfterSeconds()).isEqualTo(7);
+        assertThatThrownBy(() -> encoder.encode("secret")).isInstanceOf(LoginThrottledException.class);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void noUpgradeWhileChecksAreQueued() throws Exception {
+        CompletableFuture<?> queued = saturate();
+
+        assertThat(encoder.upgradeEncoding("hash:secret")).isFalse();
+
+        release.countDown();
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(encoder.upgradeEncoding("hash:secret")).isTrue();
+    }
+
+    @Test
+    void throttledRestLoginIs429() throws Exception {
+        saturate();
+        LoginThrottledException ex = catchThrowableOfType(LoginThrottledException.class,
+                () -> encoder.matches("secret", "hash:secret"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        ResponseEntity<ApiError> response = new GlobalExceptionHandler().handleLoginThrottled(ex, request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(429);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+    }
+
+    @Test
+    void throttledFormLoginIs429() throws Exception {
+        saturate();
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                User.withUsername("ann").password("hash:secret").roles("USER").build()));
+        provider.setPasswordEncoder(encoder);
+
+        // the provider lets it through as is, so form login hands it to the failure handler
+        AuthenticationServiceException ex = catchThrowableOfType(AuthenticationServiceException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("ann", "secret")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new LoginFailureHandler().onAuthenticationFailure(new MockHttpServletRequest(), response, ex);
+
+        assertThat(ex).isInstanceOf(LoginThrottledException.class);
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+    }
+
+    @Test
+    void otherFormLoginFailuresGoBackToTheLoginPage() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new LoginFailureHandler().onAuthenticationFailure(
+                new MockHttpServletRequest(), response, new BadCredentialsException("Bad credentials"));
+
+        assertThat(response.getRedirectedUrl()).isEqualTo("/login?error");
+    }
+
+    // -------------------- HELPERS --------------------
+
+    /**
+     * Occupies the hashing thread and the queue slot.
+     *
+     * @return the queued check, completed once {@link #release} is counted down
+     */
+    private CompletableFuture<?> saturate() throws Exception {
+        CompletableFuture.runAsync(() -> encoder.matches("first", "hash:first"));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<?> queued = CompletableFuture.runAsync(() -> encoder.matches("second", "hash:second"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.hash.queue").gauge().value() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        return queued;
+    }
+
+    /**
+     * Prefixes instead of hashing, and holds every check until {@link #release}.
+     */
+    private class WaitingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return true;
+        }
+
+        private void await() {
+            running.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.techthordev.employee_management_system.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "0123456789abcdef".repeat(8);
+
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private final TokenDenylist denylist = new TokenDenylist(1024);
+
+    private final JwtTokenProvider provider =
+            new JwtTokenProvider(SECRET, 60_000, 100, new SimpleMeterRegistry(), denylist);
+
+    @Test
+    void compactTokenCarriesUserRolesAndFamily() {
+        UUID family = UUID.randomUUID();
+
+        String token = provider.generateToken(user("ann", "ROLE_EMPLOYEE", "ROLE_ADMIN"), family);
+        VerifiedToken verified = provider.verify(token);
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.username()).isEqualTo("ann");
+        assertThat(verified.authorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_EMPLOYEE", "ROLE_ADMIN");
+        assertThat(verified.refreshFamilyId()).isEqualTo(family);
+        assertThat(verified.tokenId()).isNotNull();
+        assertThat(provider.extractRefreshFamilyId(token)).isEqualTo(family);
+
+        // 22-character base64 jti and a role bitmask instead of the names
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+        assertThat(payload).contains("\"rol\":5").doesNotContain("authorities").containsPattern("\"jti\":\"[A-Za-z0-9_-]{22}\"");
+    }
+
+    @Test
+    void roleWithoutBitFallsBackToNames() {
+        VerifiedToken verified = provider.verify(provider.generateToken(user("bob", "ROLE_AUDITOR")));
+
+        assertThat(verified.authorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_AUDITOR");
+        assertThat(verified.refreshFamilyId()).isNull();
+    }
+
+    @Test
+    void tokensInTheOldFormatStillVerify() {
+        UUID id = UUID.randomUUID();
+        String token = Jwts.builder()
+                .id(id.toString())
+                .subject("ann")
+                .claim("authorities", List.of("ROLE_ADMIN"))
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(key, Jwts.SIG.HS512)
+                .compact();
+
+        VerifiedToken verified = provider.verify(token);
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.tokenId()).isEqualTo(id);
+        assertThat(verified.username()).isEqualTo("ann");
+        assertThat(verified.authorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void oldTokensCanBeRevoked() {
+        UUID id = UUID.randomUUID();
+        String token = Jwts.builder()
+                .id(id.toString())
+                .subject("ann")
+                .claim("authorities", List.of("ROLE_EMPLOYEE"))
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(key, Jwts.SIG.HS512)
+                .compact();
+
+        denylist.add(id, Instant.now().plusSeconds(60));
+
+        assertThat(provider.verify(token)).isNull();
+    }
+
+    @Test
+    void signedTokenWithoutRolesIsRejected() {
+        String token = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject("ann")
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(key)
+                .compact();
+
+        assertThat(provider.verify(token)).isNull();
+    }
+
+    @Test
+    void forgedAndExpiredTokensAreRejected() {
+        String forged = Jwts.builder()
+                .subject("ann")
+                .claim("rol", 4)
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor("fedcba9876543210".repeat(8).getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        String expired = Jwts.builder()
+                .subject("ann")
+                .claim("rol", 4)
+                .expiration(Date.from(Instant.now().minusSeconds(60)))
+                .signWith(key)
+                .compact();
+
+        assertThat(provider.verify(forged)).isNull();
+        assertThat(provider.verify(expired)).isNull();
+        assertThat(provider.verify("not.a.token")).isNull();
+    }
+
+    @Test
+    void revokedTokenIsRejectedAlsoWhenCached() {
+        String token = provider.generateToken(user("ann", "ROLE_EMPLOYEE"));
+        VerifiedToken verified = provider.verify(token);
+
+        denylist.add(verified.tokenId(), verified.expiresAt());
+
+        assertThat(provider.verify(token)).isNull();
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private static UserDetails user(String username, String... roles) {
+        return User.withUsername(username)
+                .password("{noop}secret")
+                .authorities(roles)
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package br.com.techthordev.employee_management_system.security;
+
+import br.com.techthordev.employee_management_system.exception.UnauthorizedException;
+import br.com.techthordev.employee_management_system.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenServiceTest {
+
+    private final InMemoryRefreshTokenRepository repository = new InMemoryRefreshTokenRepository();
+
+    private final Map<String, UserDetails> users = new HashMap<>(Map.of(
+            "ann", User.withUsername("ann").password("{noop}x").roles("EMPLOYEE").build()));
+
+    private final UserDetailsService userDetailsService = username -> {
+        UserDetails user = users.get(username);
+        if (user == null) {
+            throw new UsernameNotFoundException(username);
+        }
+        return user;
+    };
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            "0123456789abcdef".repeat(8), 60_000, 100, new SimpleMeterRegistry(), new TokenDenylist(1024));
+
+    private final RefreshTokenService service = new RefreshTokenService(
+            repository, userDetailsService, jwtTokenProvider, Duration.ofDays(7), Duration.ofHours(1),
+            new SimpleMeterRegistry());
+
+    @Test
+    void rotationReturnsASuccessorInTheSameFamily() {
+        RefreshTokenService.RefreshToken issued = service.issue("ann");
+
+        RefreshTokenService.Rotation rotation = service.rotate(issued.value());
+
+        assertThat(rotation.user().getUsername()).isEqualTo("ann");
+        assertThat(rotation.refreshToken().value()).isNotEqualTo(issued.value());
+        assertThat(rotation.refreshToken().familyId()).isEqualTo(issued.familyId());
+        // the successor is usable in turn
+        assertThat(service.rotate(rotation.refreshToken().value()).refreshToken().familyId())
+                .isEqualTo(issued.familyId());
+    }
+
+    @Test
+    void reusedTokenRevokesTheWholeFamily() {
+        RefreshTokenService.RefreshToken issued = service.issue("ann");
+        RefreshTokenService.RefreshToken successor = service.rotate(issued.value()).refreshToken();
+        RefreshTokenService.RefreshToken otherLogin = service.issue("ann");
+
+        assertThatThrownBy(() -> service.rotate(issued.value()))
+                .isInstanceOf(UnauthorizedException.class);
+
+        // the legitimate holder of the successor has to log in again, other logins are untouched
+        assertThatThrownBy(() -> service.rotate(successor.value()))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(service.rotate(otherLogin.value()).user().getUsername()).isEqualTo("ann");
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertThatThrownBy(() -> service.rotate("unknown"))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void tokenOfARemovedUserIsRejectedAndItsFamilyRevoked() {
+        RefreshTokenService.RefreshToken issued = service.issue("ann");
+        users.remove("ann");
+
+        assertThatThrownBy(() -> service.rotate(issued.value()))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(repository.isRevoked(issued.familyId())).isTrue();
+    }
+
+    @Test
+    void bearerOnlyLogoutRevokesTheFamilyOfTheAccessToken() {
+        RefreshTokenService.RefreshToken issued = service.issue("ann");
+        String accessToken = jwtTokenProvider.generateToken(users.get("ann"), issued.familyId());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/logout");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+        service.logout(request, new MockHttpServletResponse(), null);
+
+        assertThat(repository.isRevoked(issued.familyId())).isTrue();
+        assertThatThrownBy(() -> service.rotate(issued.value()))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void logoutWithARefreshTokenParameterRevokesItsFamily() {
+        RefreshTokenService.RefreshToken issued = service.issue("ann");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/logout");
+        request.setParameter("refresh_token", issued.value());
+        service.logout(request, new MockHttpServletResponse(), null);
+
+        assertThat(repository.isRevoked(issued.familyId())).isTrue();
+    }
+
+    @Test
+    void logoutWithAForgedAccessTokenRevokesNothing() {
+        RefreshTokenService.RefreshToken issued = service.issue("ann");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/logout");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer not.a.token");
+        service.logout(request, new MockHttpServletResponse(), null);
+
+        assertThat(repository.isRevoked(issued.familyId())).isFalse();
+    }
+
+    // -------------------- HELPERS --------------------
+
+    /**
+     * Same contract as the SQL of {@link RefreshTokenRepository}, on a map.
+     */
+    private static final class InMemoryRefreshTokenRepository extends RefreshTokenRepository {
+
+        private final Map<ByteBuffer, Row> rows = new HashMap<>();
+
+        InMemoryRefreshTokenRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insert(byte[] tokenHash, UUID familyId, String username, Instant expiresAt) {
+            rows.put(ByteBuffer.wrap(tokenHash), new Row(familyId, username, expiresAt));
+        }
+
+        @Override
+        public Optional<UsedToken> markUsed(byte[] tokenHash) {
+            Row row = rows.get(ByteBuffer.wrap(tokenHash));
+            if (row == null || row.used || row.revoked || !row.expiresAt.isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            row.used = true;
+            return Optional.of(new UsedToken(row.familyId, row.username));
+        }
+
+        @Override
+        public Optional<UUID> findReusedFamily(byte[] tokenHash) {
+            Row row = rows.get(ByteBuffer.wrap(tokenHash));
+            return row != null && row.used && !row.revoked ? Optional.of(row.familyId) : Optional.empty();
+        }
+
+        @Override
+        public int revokeFamily(UUID familyId) {
+            int revoked = 0;
+            for (Row row : rows.values()) {
+                if (row.familyId.equals(familyId) && !row.revoked) {
+                    row.revoked = true;
+                    revoked++;
+                }
+            }
+            return revoked;
+        }
+
+        @Override
+        public int revokeFamilyOf(byte[] tokenHash) {
+            Row row = rows.get(ByteBuffer.wrap(tokenHash));
+            return row == null ? 0 : revokeFamily(row.familyId);
+        }
+
+        @Override
+        public int deleteExpired() {
+            return 0;
+        }
+
+        boolean isRevoked(UUID familyId) {
+            return rows.values().stream().anyMatch(row -> row.familyId.equals(familyId))
+                    && rows.values().stream().filter(row -> row.familyId.equals(familyId)).allMatch(row -> row.revoked);
+        }
+
+        private static final class Row {
+            final UUID familyId;
+            final String username;
+            final Instant expiresAt;
+            boolean used;
+            boolean revoked;
+
+            Row(UUID familyId, String username, Instant expiresAt) {
+                this.familyId = familyId;
+                this.username = username;
+                this.expiresAt = expiresAt;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.techthordev.employee_management_system.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTest {
+
+    private final TokenDenylist denylist = new TokenDenylist(1024);
+
+    @Test
+    void containsRevokedIdsOnly() {
+        UUID revoked = UUID.randomUUID();
+
+        denylist.add(revoked, inOneHour());
+
+        assertThat(denylist.contains(revoked)).isTrue();
+        assertThat(denylist.contains(UUID.randomUUID())).isFalse();
+        assertThat(denylist.contains(null)).isFalse();
+    }
+
+    @Test
+    void ignoresExpiredTokens() {
+        UUID expired = UUID.randomUUID();
+
+        denylist.add(expired, Instant.now().minusSeconds(1));
+
+        assertThat(denylist.contains(expired)).isFalse();
+        assertThat(denylist.size()).isZero();
+    }
+
+    @Test
+    void addingTwiceKeepsOneEntry() {
+        UUID id = UUID.randomUUID();
+
+        denylist.add(id, inOneHour());
+        denylist.add(id, inOneHour());
+
+        assertThat(denylist.size()).isEqualTo(1);
+    }
+
+    @Test
+    void idFoldingToZeroIsStored() {
+        // both halves equal: the folded fingerprint would be the empty marker
+        UUID id = new UUID(5, 5);
+
+        denylist.add(id, inOneHour());
+
+        assertThat(denylist.contains(id)).isTrue();
+    }
+
+    @Test
+    void probesPastCollidingSlots() {
+        // fingerprints differing only above bit 10 share the first slot
+        List<UUID> colliding = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            colliding.add(new UUID(0, (long) i << 10));
+        }
+
+        colliding.forEach(id -> denylist.add(id, inOneHour()));
+
+        assertThat(colliding).allMatch(denylist::contains);
+        assertThat(denylist.contains(new UUID(0, 51L << 10))).isFalse();
+    }
+
+    @Test
+    void growsBeyondItsLoadFactor() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            denylist.add(id, inOneHour());
+        }
+
+        assertThat(denylist.size()).isEqualTo(5_000);
+        assertThat(denylist.capacity()).isGreaterThanOrEqualTo(8192);
+        assertThat(ids).allMatch(denylist::contains);
+    }
+
+    @Test
+    void rebuildDropsExpiredEntries() throws InterruptedException {
+        List<UUID> shortLived = new ArrayList<>();
+        for (int i = 0; i < 700; i++) {
+            UUID id = UUID.randomUUID();
+            shortLived.add(id);
+            denylist.add(id, Instant.now().plusSeconds(1));
+        }
+        Thread.sleep(Duration.ofMillis(2100));
+
+        // fills the table up to its threshold (70% of 1024), the next add rebuilds it
+        List<UUID> live = new ArrayList<>();
+        for (int i = 0; i < 17; i++) {
+            UUID id = UUID.randomUUID();
+            live.add(id);
+            denylist.add(id, inOneHour());
+        }
+
+        assertThat(denylist.size()).isEqualTo(17);
+        assertThat(denylist.capacity()).isEqualTo(1024);
+        assertThat(live).allMatch(denylist::contains);
+        assertThat(shortLived).noneMatch(denylist::contains);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private static Instant inOneHour() {
+        return Instant.now().plusSeconds(3600);
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.config.CacheConfig;
+import br.com.techthordev.employee_management_system.dto.BatchReport;
+import br.com.techthordev.employee_management_system.dto.BatchReport.ItemResult;
+import br.com.techthordev.employee_management_system.dto.BatchReport.Status;
+import br.com.techthordev.employee_management_system.dto.EmployeeBatchUpdate;
+import br.com.techthordev.employee_management_system.dto.EmployeeChangeEvent.Type;
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.repository.EmployeeBulkRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeBulkRepository.UpdatedRow;
+import br.com.techthordev.employee_management_system.service.EmployeeChange;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeBatchServiceImplTest {
+
+    private static final int CHUNK_SIZE = 4;
+    private static final int MAX_CHANGE_EVENTS = 2;
+
+    private final EmployeeBulkRepository bulkRepository = mock(EmployeeBulkRepository.class);
+    private final EmployeeSuggestionIndex suggestionIndex = mock(EmployeeSuggestionIndex.class);
+    private final List<EmployeeChange> published = new ArrayList<>();
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES);
+    private final Cache employeeCache = cacheManager.getCache(CacheConfig.EMPLOYEES);
+
+    private final EmployeeBatchServiceImpl service = new EmployeeBatchServiceImpl(
+            bulkRepository,
+            suggestionIndex,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            event -> published.add((EmployeeChange) event),
+            cacheManager,
+            CHUNK_SIZE,
+            100,
+            100,
+            MAX_CHANGE_EVENTS);
+
+    @Test
+    void noOpItemKeepsItsVersionAndCachedCopy() {
+        EmployeeDTO cached = employee(1, "Ann", 3);
+        employeeCache.put(1, cached);
+        when(bulkRepository.updateAll(anyList()))
+                .thenReturn(Map.of(1, new UpdatedRow(employee(1, "Ann", 3), false)));
+
+        BatchReport report = service.updateEmployees(List.of(update(1, "Ann", 3L)));
+
+        ItemResult result = report.results().getFirst();
+        assertThat(result.status()).isEqualTo(Status.OK);
+        assertThat(result.version()).isEqualTo(3L);
+        assertThat(employeeCache.get(1, EmployeeDTO.class)).isSameAs(cached);
+        verify(suggestionIndex, never()).upsert(any());
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void changedItemEvictsAndPublishes() {
+        employeeCache.put(1, employee(1, "Ann", 3));
+        when(bulkRepository.updateAll(anyList()))
+                .thenReturn(Map.of(1, new UpdatedRow(employee(1, "Anna", 4), true)));
+
+        BatchReport report = service.updateEmployees(List.of(update(1, "Anna", 3L)));
+
+        assertThat(report.results().getFirst().version()).isEqualTo(4L);
+        assertThat(employeeCache.get(1)).isNull();
+        verify(suggestionIndex).upsert(any());
+        assertThat(published).extracting(EmployeeChange::type).containsExactly(Type.UPDATED);
+    }
+
+    @Test
+    void staleVersionAndUnknownIdAreReportedApart() {
+        when(bulkRepository.updateAll(anyList())).thenReturn(Map.of());
+        when(bulkRepository.existingIds(List.of(1, 2))).thenReturn(Set.of(1));
+
+        BatchReport report = service.updateEmployees(List.of(update(1, "Ann", 3L), update(2, "Bob", 3L)));
+
+        assertThat(report.results()).extracting(ItemResult::status)
+                .containsExactly(Status.CONFLICT, Status.NOT_FOUND);
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void takenEmailRetriesTheChunkItemByItem() {
+        // the whole chunk fails, then only the item with the taken email
+        when(bulkRepository.updateAll(anyList())).thenAnswer(invocation -> {
+            List<EmployeeBatchUpdate> rows = invocation.getArgument(0);
+            if (rows.size() > 1 || rows.getFirst().id() == 2) {
+                throw new DuplicateKeyException("employee_email_key");
+            }
+            EmployeeBatchUpdate row = rows.getFirst();
+            return Map.of(row.id(), new UpdatedRow(employee(row.id(), row.firstName(), 4), true));
+        });
+
+        BatchReport report = service.updateEmployees(
+                List.of(update(1, "Ann", null), update(2, "Bob", null), update(3, "Cid", null)));
+
+        assertThat(report.results()).extracting(ItemResult::status)
+                .containsExactly(Status.OK, Status.CONFLICT, Status.OK);
+        assertThat(report.succeeded()).isEqualTo(2);
+        // one chunk attempt plus one per item
+        verify(bulkRepository, times(4)).updateAll(anyList());
+        assertThat(published).extracting(EmployeeChange::employeeId).containsExactly(1, 3);
+    }
+
+    @Test
+    void chunkAboveTheEventLimitPublishesASingleReset() {
+        when(bulkRepository.updateAll(anyList())).thenAnswer(invocation -> {
+            List<EmployeeBatchUpdate> rows = invocation.getArgument(0);
+            Map<Integer, UpdatedRow> updated = new HashMap<>();
+            for (EmployeeBatchUpdate row : rows) {
+                updated.put(row.id(), new UpdatedRow(employee(row.id(), row.firstName(), 2), true));
+            }
+            return updated;
+        });
+
+        service.updateEmployees(IntStream.rangeClosed(1, MAX_CHANGE_EVENTS + 1)
+                .mapToObj(id -> update(id, "Name" + id, null))
+                .toList());
+
+        assertThat(published).extracting(EmployeeChange::type).containsExactly(Type.RESET);
+    }
+
+    @Test
+    void chunkAtTheEventLimitPublishesEachChange() {
+        when(bulkRepository.deleteAll(anyList())).thenReturn(Set.of(1, 2));
+
+        service.deleteEmployees(List.of(1, 2));
+
+        assertThat(published).extracting(EmployeeChange::type).containsExactly(Type.DELETED, Type.DELETED);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private static EmployeeBatchUpdate update(int id, String firstName, Long version) {
+        return new EmployeeBatchUpdate(id, firstName, null, null, version);
+    }
+
+    private static EmployeeDTO employee(int id, String firstName, long version) {
+        EmployeeDTO dto = new EmployeeDTO(id, firstName, "Lee", firstName.toLowerCase() + "@x.io");
+        dto.setVersion(version);
+        return dto;
+    }
+}
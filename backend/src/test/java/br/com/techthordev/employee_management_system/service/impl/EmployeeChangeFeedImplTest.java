@@ -0,0 +1,161 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.controller.EmployeeController;
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.service.EmployeeBatchService;
+import br.com.techthordev.employee_management_system.service.EmployeeChange;
+import br.com.techthordev.employee_management_system.service.EmployeeExportService;
+import br.com.techthordev.employee_management_system.service.EmployeeImportService;
+import br.com.techthordev.employee_management_system.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class EmployeeChangeFeedImplTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final Pattern EVENT = Pattern.compile("id:(\\S+)\\nevent:(\\S+)");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void replaysTheEventsAfterAKnownId() throws Exception {
+        EmployeeChangeFeedImpl feed = feed(Thread.ofVirtual()::start);
+        MockMvc mockMvc = mockMvc(feed);
+        publish(feed, 3);
+        String runId = runId(mockMvc);
+
+        MockHttpServletResponse stream = subscribe(mockMvc, runId + "-1");
+
+        assertThat(awaitEvents(stream, 2)).containsExactly(runId + "-2 updated", runId + "-3 updated");
+    }
+
+    @Test
+    void liveEventsFollowTheReplay() throws Exception {
+        EmployeeChangeFeedImpl feed = feed(Thread.ofVirtual()::start);
+        MockMvc mockMvc = mockMvc(feed);
+        publish(feed, 2);
+        String runId = runId(mockMvc);
+
+        MockHttpServletResponse stream = subscribe(mockMvc, runId + "-1");
+        feed.onChange(EmployeeChange.deleted(7));
+
+        assertThat(awaitEvents(stream, 2)).containsExactly(runId + "-2 updated", runId + "-3 deleted");
+    }
+
+    @Test
+    void foreignOrUnknownIdsGetAReset() throws Exception {
+        EmployeeChangeFeedImpl feed = feed(Thread.ofVirtual()::start);
+        MockMvc mockMvc = mockMvc(feed);
+        publish(feed, BUFFER_SIZE + 2);
+        String runId = runId(mockMvc);
+        String reset = runId + "-" + (BUFFER_SIZE + 2) + " reset";
+
+        // a previous run, no run at all, an id ahead of the feed, and one that fell out of the buffer
+        for (String lastEventId : List.of("0-3", "3", runId + "-99", runId + "-1")) {
+            assertThat(awaitEvents(subscribe(mockMvc, lastEventId), 1)).as(lastEventId).containsExactly(reset);
+        }
+        // the oldest buffered event is still replayed
+        assertThat(awaitEvents(subscribe(mockMvc, runId + "-2"), BUFFER_SIZE)).first()
+                .isEqualTo(runId + "-3 updated");
+    }
+
+    @Test
+    void slowSubscriberIsDisconnectedAfterAFullBuffer() {
+        // drainers never run: the subscriber reads nothing
+        List<Runnable> drainers = new ArrayList<>();
+        EmployeeChangeFeedImpl feed = feed(drainers::add);
+        feed.subscribe(null);
+        feed.subscribe(null);
+        assertThat(subscribers()).isEqualTo(2);
+
+        publish(feed, BUFFER_SIZE + 1);
+        assertThat(subscribers()).isEqualTo(2);
+
+        publish(feed, 1);
+        assertThat(subscribers()).isZero();
+        assertThat(meterRegistry.get("employee.feed.lagging").counter().count()).isEqualTo(2);
+
+        // later writes are not held up by the dropped subscribers
+        publish(feed, BUFFER_SIZE * 2);
+        assertThat(meterRegistry.get("employee.feed.lagging").counter().count()).isEqualTo(2);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private EmployeeChangeFeedImpl feed(Executor drainers) {
+        return new EmployeeChangeFeedImpl(BUFFER_SIZE, Duration.ofMinutes(1), Duration.ofSeconds(30),
+                meterRegistry, drainers);
+    }
+
+    private static MockMvc mockMvc(EmployeeChangeFeedImpl feed) {
+        return MockMvcBuilders
+                .standaloneSetup(new EmployeeController(
+                        mock(EmployeeService.class),
+                        mock(EmployeeImportService.class),
+                        mock(EmployeeExportService.class),
+                        mock(EmployeeBatchService.class),
+                        feed))
+                .build();
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("employee.feed.subscribers").gauge().value();
+    }
+
+    private static void publish(EmployeeChangeFeedImpl feed, int count) {
+        for (int i = 0; i < count; i++) {
+            EmployeeDTO employee = new EmployeeDTO(i + 1, "Ann", "Lee", "ann@x.io");
+            employee.setVersion(1L);
+            feed.onChange(EmployeeChange.updated(employee));
+        }
+    }
+
+    // a foreign id is answered with a reset that carries the current run
+    private static String runId(MockMvc mockMvc) throws Exception {
+        String reset = awaitEvents(subscribe(mockMvc, "0-0"), 1).getFirst();
+        return reset.substring(0, reset.lastIndexOf('-'));
+    }
+
+    private static MockHttpServletResponse subscribe(MockMvc mockMvc, String lastEventId) throws Exception {
+        return mockMvc.perform(get("/employees/changes").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    /**
+     * Waits for {@code count} events on a stream.
+     *
+     * @return "id type" of each event received so far
+     */
+    private static List<String> awaitEvents(MockHttpServletResponse stream, int count) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            List<String> events = new ArrayList<>();
+            Matcher matcher = EVENT.matcher(stream.getContentAsString());
+            while (matcher.find()) {
+                events.add(matcher.group(1) + " " + matcher.group(2));
+            }
+            if (events.size() >= count || System.nanoTime() > deadline) {
+                return events;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
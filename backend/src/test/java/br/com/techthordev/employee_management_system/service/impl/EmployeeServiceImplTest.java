@@ -0,0 +1,194 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeDTO;
+import br.com.techthordev.employee_management_system.dto.EmployeePatch;
+import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import br.com.techthordev.employee_management_system.exception.PreconditionFailedException;
+import br.com.techthordev.employee_management_system.exception.ResourceNotFoundException;
+import br.com.techthordev.employee_management_system.repository.EmployeeBulkRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeCountRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeProjectionRepository;
+import br.com.techthordev.employee_management_system.repository.EmployeeRepository;
+import br.com.techthordev.employee_management_system.service.EmployeeChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class EmployeeServiceImplTest {
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final EmployeeBulkRepository bulkRepository = mock(EmployeeBulkRepository.class);
+    private final EmployeeSuggestionIndex suggestionIndex = mock(EmployeeSuggestionIndex.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final EmployeeServiceImpl service = new EmployeeServiceImpl(
+            employeeRepository,
+            bulkRepository,
+            mock(EmployeeCountRepository.class),
+            mock(EmployeeProjectionRepository.class),
+            suggestionIndex,
+            eventPublisher);
+
+    // -------------------- UPDATE --------------------
+
+    @Test
+    void updateWithMatchingVersionWrites() {
+        when(employeeRepository.updateRowByIdAndVersion(1, 3L, "Ann", "Lee", "ann@x.io"))
+                .thenReturn(Optional.of(employee(1, 4)));
+
+        EmployeeDTO updated = service.updateEmployee(1, dto(), 3L);
+
+        assertThat(updated.getVersion()).isEqualTo(4L);
+        verify(eventPublisher).publishEvent(any(EmployeeChange.class));
+    }
+
+    @Test
+    void updateWithStaleVersionIsPreconditionFailed() {
+        when(employeeRepository.updateRowByIdAndVersion(1, 3L, "Ann", "Lee", "ann@x.io"))
+                .thenReturn(Optional.empty());
+        when(employeeRepository.existsById(1)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.updateEmployee(1, dto(), 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verifyNoInteractions(suggestionIndex, eventPublisher);
+    }
+
+    @Test
+    void updateOfUnknownIdWithVersionIsNotFound() {
+        when(employeeRepository.updateRowByIdAndVersion(1, 3L, "Ann", "Lee", "ann@x.io"))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.updateEmployee(1, dto(), 3L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void unconditionalUpdateOfUnknownIdIsNotFoundWithoutASecondQuery() {
+        when(employeeRepository.updateRowById(1, "Ann", "Lee", "ann@x.io")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.updateEmployee(1, dto(), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(employeeRepository, never()).existsById(any());
+        verify(employeeRepository, never()).updateRowByIdAndVersion(any(), anyLong(), any(), any(), any());
+    }
+
+    // -------------------- PATCH --------------------
+
+    @Test
+    void noOpPatchWritesNothingAndReturnsTheCurrentEmployee() {
+        when(bulkRepository.patch(anyInt(), any(), any())).thenReturn(Optional.empty());
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee(1, 3)));
+
+        EmployeeDTO current = service.patchEmployee(1, patch("Ann"), 3L);
+
+        assertThat(current.getVersion()).isEqualTo(3L);
+        verifyNoInteractions(suggestionIndex, eventPublisher);
+    }
+
+    @Test
+    void patchWithStaleVersionIsPreconditionFailed() {
+        when(bulkRepository.patch(anyInt(), any(), any())).thenReturn(Optional.empty());
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee(1, 4)));
+
+        assertThatThrownBy(() -> service.patchEmployee(1, patch("Ann"), 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchOfUnknownIdIsNotFound() {
+        when(bulkRepository.patch(anyInt(), any(), any())).thenReturn(Optional.empty());
+        when(employeeRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.patchEmployee(1, patch("Ann"), 3L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.patchEmployee(1, patch("Ann"), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void patchThatChangesARowPublishesIt() {
+        EmployeeDTO patched = new EmployeeDTO(1, "Anna", "Lee", "ann@x.io");
+        patched.setVersion(4L);
+        when(bulkRepository.patch(anyInt(), any(), any())).thenReturn(Optional.of(patched));
+
+        assertThat(service.patchEmployee(1, patch("Anna"), null)).isSameAs(patched);
+        verify(suggestionIndex).upsert(any(Employee.class));
+        verify(eventPublisher).publishEvent(any(EmployeeChange.class));
+        verify(employeeRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    void patchRemovingAFieldIsRejected() {
+        EmployeePatch patch = new EmployeePatch();
+        patch.setEmail(null);
+
+        assertThatThrownBy(() -> service.patchEmployee(1, patch, null))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(bulkRepository);
+    }
+
+    // -------------------- DELETE --------------------
+
+    @Test
+    void deleteWithStaleVersionIsPreconditionFailed() {
+        when(employeeRepository.deleteRowByIdAndVersion(1, 3L)).thenReturn(0);
+        when(employeeRepository.existsById(1)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.deleteEmployee(1, 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(suggestionIndex, never()).remove(anyInt());
+    }
+
+    @Test
+    void deleteOfUnknownIdIsNotFound() {
+        when(employeeRepository.deleteRowByIdAndVersion(1, 3L)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.deleteEmployee(1, 3L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.deleteEmployee(1, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void deleteWithMatchingVersionRemovesTheEmployee() {
+        when(employeeRepository.deleteRowByIdAndVersion(1, 3L)).thenReturn(1);
+
+        service.deleteEmployee(1, 3L);
+
+        verify(suggestionIndex).remove(1);
+        verify(eventPublisher).publishEvent(any(EmployeeChange.class));
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private static EmployeeDTO dto() {
+        return new EmployeeDTO(null, "Ann", "Lee", "ann@x.io");
+    }
+
+    private static EmployeePatch patch(String firstName) {
+        EmployeePatch patch = new EmployeePatch();
+        patch.setFirstName(firstName);
+        return patch;
+    }
+
+    private static Employee employee(int id, long version) {
+        Employee employee = new Employee("Ann", "Lee", "ann@x.io");
+        employee.setId(id);
+        employee.setVersion(version);
+        return employee;
+    }
+}
@@ -0,0 +1,178 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.dto.EmployeeSuggestionDTO;
+import br.com.techthordev.employee_management_system.entity.Employee;
+import br.com.techthordev.employee_management_system.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeSuggestionIndexTest {
+
+    private final EmployeeRepository repository = mock(EmployeeRepository.class);
+
+    // compactions run when the test says so
+    private final List<Runnable> compactions = new ArrayList<>();
+
+    private EmployeeSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSuggestionIndex(repository, compactions::add, 4);
+    }
+
+    @Test
+    void suggestsByPrefixOfAnyFieldIgnoringCase() {
+        load(List.of(employee(1, "Lucas", "Martinez", "lucas@x.io"),
+                employee(2, "Mary", "Lucca", "mary@x.io"),
+                employee(3, "Susan", "Smith", "susan@x.io")));
+
+        assertThat(ids(index.suggest("LUC", 10))).containsExactly(1, 2);
+        assertThat(ids(index.suggest("s", 10))).containsExactly(3);
+        assertThat(index.suggest("zz", 10)).isEmpty();
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void matchOnSeveralKeysIsListedOnce() {
+        load(List.of(employee(1, "Ann", "Annis", "ann@x.io")));
+
+        assertThat(ids(index.suggest("ann", 10))).containsExactly(1);
+    }
+
+    @Test
+    void limitsResults() {
+        load(List.of(employee(1, "Al", "A", "a1@x.io"),
+                employee(2, "Alan", "B", "b2@x.io"),
+                employee(3, "Alba", "C", "c3@x.io")));
+
+        assertThat(index.suggest("al", 2)).hasSize(2);
+    }
+
+    @Test
+    void updateAndRemoveHideTheSnapshotEntry() {
+        load(List.of(employee(1, "Lucas", "Martinez", "lucas@x.io"),
+                employee(2, "Mary", "Jones", "mary@x.io")));
+
+        index.upsert(employee(1, "Peter", "Martinez", "peter@x.io"));
+        index.remove(2);
+
+        assertThat(index.suggest("lucas", 10)).isEmpty();
+        assertThat(index.suggest("mary", 10)).isEmpty();
+        assertThat(index.suggest("peter", 10))
+                .containsExactly(new EmployeeSuggestionDTO(1, "Peter Martinez <peter@x.io>"));
+    }
+
+    @Test
+    void writesDuringLoadAreKept() {
+        List<Employee> table = List.of(employee(1, "Lucas", "Martinez", "lucas@x.io"),
+                employee(2, "Mary", "Jones", "mary@x.io"));
+        // the writes land after the load read the table
+        whenLoading(table, () -> {
+            index.upsert(employee(1, "Peter", "Martinez", "peter@x.io"));
+            index.remove(2);
+            index.upsert(employee(3, "Nina", "Novak", "nina@x.io"));
+        });
+
+        index.load();
+
+        assertThat(index.suggest("lucas", 10)).isEmpty();
+        assertThat(index.suggest("mary", 10)).isEmpty();
+        assertThat(ids(index.suggest("peter", 10))).containsExactly(1);
+        assertThat(ids(index.suggest("nina", 10))).containsExactly(3);
+    }
+
+    @Test
+    void writesBeforeLoadAreKept() {
+        index.upsert(employee(7, "Olga", "Orlov", "olga@x.io"));
+
+        load(List.of(employee(1, "Lucas", "Martinez", "lucas@x.io")));
+
+        assertThat(ids(index.suggest("olga", 10))).containsExactly(7);
+    }
+
+    @Test
+    void compactsInTheBackgroundAndReplaysWritesMadeMeanwhile() {
+        load(List.of(employee(1, "Lucas", "Martinez", "lucas@x.io"),
+                employee(2, "Mary", "Jones", "mary@x.io")));
+
+        index.upsert(employee(1, "Peter", "Martinez", "peter@x.io"));
+        index.upsert(employee(3, "Nina", "Novak", "nina@x.io"));
+        index.upsert(employee(4, "Olga", "Orlov", "olga@x.io"));
+        index.upsert(employee(5, "Paul", "Price", "paul@x.io"));
+        assertThat(compactions).hasSize(1);
+
+        // while the snapshot is being built
+        index.remove(3);
+        index.upsert(employee(4, "Olivia", "Orlov", "olivia@x.io"));
+        index.upsert(employee(6, "Rita", "Reed", "rita@x.io"));
+        assertThat(compactions).as("one compaction at a time").hasSize(1);
+        assertThat(ids(index.suggest("o", 10))).containsExactly(4);
+
+        runCompactions();
+
+        assertThat(index.suggest("lucas", 10)).isEmpty();
+        assertThat(index.suggest("nina", 10)).isEmpty();
+        assertThat(index.suggest("olga", 10)).isEmpty();
+        assertThat(ids(index.suggest("olivia", 10))).containsExactly(4);
+        assertThat(ids(index.suggest("p", 10))).containsExactly(5, 1);
+        assertThat(ids(index.suggest("rita", 10))).containsExactly(6);
+        assertThat(ids(index.suggest("mary", 10))).containsExactly(2);
+    }
+
+    @Test
+    void rejectedCompactionKeepsAllWrites() {
+        index = new EmployeeSuggestionIndex(repository, task -> {
+            throw new IllegalStateException("no thread");
+        }, 2);
+        load(List.of(employee(1, "Lucas", "Martinez", "lucas@x.io")));
+
+        index.upsert(employee(2, "Mary", "Jones", "mary@x.io"));
+        index.upsert(employee(3, "Nina", "Novak", "nina@x.io"));
+
+        assertThat(ids(index.suggest("mary", 10))).containsExactly(2);
+        assertThat(ids(index.suggest("nina", 10))).containsExactly(3);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private void load(List<Employee> table) {
+        whenLoading(table, () -> {});
+        index.load();
+    }
+
+    private void whenLoading(List<Employee> table, Runnable duringLoad) {
+        when(repository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    duringLoad.run();
+                    return Window.from(table, i -> ScrollPosition.keyset());
+                });
+    }
+
+    private void runCompactions() {
+        while (!compactions.isEmpty()) {
+            compactions.removeFirst().run();
+        }
+    }
+
+    private static List<Integer> ids(List<EmployeeSuggestionDTO> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionDTO::id).toList();
+    }
+
+    private static Employee employee(int id, String firstName, String lastName, String email) {
+        Employee employee = new Employee(firstName, lastName, email);
+        employee.setId(id);
+        return employee;
+    }
+}
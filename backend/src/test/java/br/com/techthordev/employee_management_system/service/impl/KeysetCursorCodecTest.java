@@ -0,0 +1,138 @@
+package br.com.techthordev.employee_management_system.service.impl;
+
+import br.com.techthordev.employee_management_system.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorCodecTest {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    @Test
+    void roundTripKeepsKeysValuesAndOrder() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("lastName", "Müller");
+        keys.put("version", 7L);
+        keys.put("id", 42);
+
+        Sort sort = Sort.by(Sort.Order.asc("lastName"), Sort.Order.desc("version"), Sort.Order.asc("id"));
+
+        String cursor = KeysetCursorCodec.encode(ScrollPosition.forward(keys), sort);
+        KeysetScrollPosition decoded = KeysetCursorCodec.decode(cursor, sort);
+
+        assertThat(decoded.getKeys()).containsExactlyEntriesOf(keys);
+        assertThat(decoded.scrollsForward()).isTrue();
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = KeysetCursorCodec.encode(ScrollPosition.forward(Map.of("email", "??>>~~@x.io")), Sort.by("email"));
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingCursorStartsAtTheBeginning() {
+        assertThat(KeysetCursorCodec.decode(null, BY_ID).isInitial()).isTrue();
+        assertThat(KeysetCursorCodec.decode(" ", BY_ID).isInitial()).isTrue();
+    }
+
+    @Test
+    void rejectsCursorsForOtherSortDirections() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("lastName", "Silva");
+        keys.put("id", 42);
+        String cursor = KeysetCursorCodec.encode(ScrollPosition.forward(keys), Sort.by("lastName", "id"));
+
+        assertMismatch(cursor, Sort.by(Sort.Order.desc("lastName"), Sort.Order.asc("id")));
+        assertMismatch(cursor, Sort.by(Sort.Order.asc("lastName"), Sort.Order.desc("id")));
+    }
+
+    @Test
+    void rejectsCursorsForOtherSortProperties() {
+        String cursor = KeysetCursorCodec.encode(ScrollPosition.forward(Map.of("id", 42)), BY_ID);
+
+        assertMismatch(cursor, Sort.by("email", "id"));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String valid = KeysetCursorCodec.encode(ScrollPosition.forward(Map.of("id", 42)), BY_ID);
+
+        assertInvalid("not base64!");
+        assertInvalid(valid.substring(0, valid.length() - 2));
+        assertInvalid(valid + "AA");
+    }
+
+    @Test
+    void rejectsOtherVersions() throws IOException {
+        String cursor = cursor(out -> {
+            out.writeByte(1);
+            out.writeByte(0);
+        });
+
+        assertThatThrownBy(() -> KeysetCursorCodec.decode(cursor, BY_ID))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Unsupported cursor version");
+    }
+
+    @Test
+    void rejectsUnknownValueTypes() throws IOException {
+        String cursor = cursor(out -> {
+            out.writeByte(2);
+            out.writeByte(1);
+            out.writeUTF("id");
+            out.writeByte('A');
+            out.writeByte('D');
+            out.writeDouble(1.5);
+        });
+
+        assertInvalid(cursor);
+    }
+
+    @Test
+    void refusesToEncodeUnsupportedTypes() {
+        KeysetScrollPosition position = ScrollPosition.forward(Map.of("salary", 1.5));
+
+        assertThatThrownBy(() -> KeysetCursorCodec.encode(position, Sort.by("salary")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // -------------------- HELPERS --------------------
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> KeysetCursorCodec.decode(cursor, BY_ID))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static void assertMismatch(String cursor, Sort sort) {
+        assertThatThrownBy(() -> KeysetCursorCodec.decode(cursor, sort))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cursor does not match the requested sort order");
+    }
+
+    private static String cursor(Content content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            content.write(out);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private interface Content {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -7,3 +7,7 @@ END $$;
 
 ALTER DATABASE employee_management OWNER TO springconnector;
 GRANT ALL PRIVILEGES ON DATABASE employee_management TO springconnector;
+
+-- The schema itself is created by the Flyway migrations (backend/src/main/resources/db/migration)
+GRANT ALL ON SCHEMA public TO springconnector;
+ALTER SCHEMA public OWNER TO springconnector;
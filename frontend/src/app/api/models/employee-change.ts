@@ -0,0 +1,19 @@
+import { Employee } from './employee';
+
+/**
+ * SSE event names of the employee change stream (`GET /employees/changes`).
+ * `reset` means events were missed and the data has to be fetched again.
+ */
+export type EmployeeChangeType = 'created' | 'updated' | 'deleted' | 'reset';
+
+/**
+ * Payload of one change event.
+ */
+export interface EmployeeChange {
+  sequence: number;
+  type: 'CREATED' | 'UPDATED' | 'DELETED' | 'RESET';
+  employeeId: number | null;
+  version: number | null;
+  employee: Employee | null;
+  timestamp: string;
+}
@@ -1,9 +1,17 @@
+/**
+ * How `totalElements` was computed: `exact` (count query or last page),
+ * `estimate` (PostgreSQL statistics) or `none` (not computed).
+ */
+export type TotalMode = 'none' | 'estimate' | 'exact';
+
 export interface Page<T> {
   content: T[];
   page: {
     size: number;
     number: number;
-    totalElements: number;
-    totalPages: number;
+    hasNext: boolean;
+    totalElements: number | null;
+    totalPages: number | null;
+    total: TotalMode;
   };
-}
\ No newline at end of file
+}
@@ -1,6 +1,6 @@
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Page } from '../models/page';
+import { Page, TotalMode } from '../models/page';
 import { Employee } from '../models/employee';
 import { inject, Injectable } from '@angular/core';
 import { API_BASE_URL } from '../tokens/api.token';
@@ -18,14 +18,16 @@ export class EmployeeApiService {
   /**
    * Get paginated list of employees.
    * Supports pagination and sorting.
+   * `total` defaults to an estimate; `exact` costs a count query on the server.
    */
   getEmployees(
     page: number,
     size: number,
     sort: string,
-    search?: string
+    search?: string,
+    total: TotalMode = 'estimate'
   ): Observable<Page<Employee>> {
-    let params = new HttpParams().set('sort', sort);
+    let params = new HttpParams().set('sort', sort).set('total', total);
     
     if (page !== undefined) {
       params = params.set('page', page.toString());
@@ -0,0 +1,31 @@
+import { inject, Injectable } from '@angular/core';
+import { Observable } from 'rxjs';
+import { EmployeeChange, EmployeeChangeType } from '../models/employee-change';
+import { API_BASE_URL } from '../tokens/api.token';
+
+const CHANGE_TYPES: EmployeeChangeType[] = ['created', 'updated', 'deleted', 'reset'];
+
+@Injectable({
+  providedIn: 'root'
+})
+export class EmployeeChangesService {
+
+  private readonly apiBaseUrl = inject(API_BASE_URL);
+
+  /**
+   * Stream of employee changes pushed by the server (Server-Sent Events).
+   * The browser reconnects on its own and sends `Last-Event-ID`, so missed
+   * events are replayed, or a `reset` event is delivered instead.
+   * The connection is closed when the last subscriber unsubscribes.
+   */
+  changes(): Observable<EmployeeChange> {
+    return new Observable<EmployeeChange>(subscriber => {
+      const source = new EventSource(`${this.apiBaseUrl}/employees/changes`);
+      const onEvent = (event: MessageEvent<string>) => subscriber.next(JSON.parse(event.data));
+
+      CHANGE_TYPES.forEach(type => source.addEventListener(type, onEvent));
+
+      return () => source.close();
+    });
+  }
+}
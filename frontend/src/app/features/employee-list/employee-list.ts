@@ -8,10 +8,12 @@ import { MatInputModule } from '@angular/material/input';
 import { MatButtonModule } from '@angular/material/button';
 import { MatIconModule } from '@angular/material/icon';
 import { Subject, Subscription } from 'rxjs';
-import { debounceTime, distinctUntilChanged } from 'rxjs/operators';
+import { auditTime, debounceTime, distinctUntilChanged } from 'rxjs/operators';
 
 import { Employee } from '../../api/models/employee';
 import { EmployeeApiService } from '../../api/services/employee-api';
+import { EmployeeChangesService } from '../../api/services/employee-changes';
+import { EmployeeChange } from '../../api/models/employee-change';
 import { Page } from '../../api/models/page';
 import { EmployeeDialog, EmployeeDialogData } from '../employee-dialog/employee-dialog';
 
@@ -39,6 +41,7 @@ export class EmployeeList implements OnDestroy {
   readonly pageSize = signal(10);
   readonly sortState = signal<Sort>({ active: 'lastName', direction: 'asc' });
   readonly loading = signal(false);
+  readonly searchTerm = signal('');
 
   readonly displayedColumns = ['rowNumber', 'firstName', 'lastName', 'email', 'actions'];
   readonly pageSizeOptions = computed(() => [5, 10, 20, 50, this.totalElements()]);
@@ -52,8 +55,15 @@ export class EmployeeList implements OnDestroy {
   private filterSubject = new Subject<string>();
   private filterSubscription: Subscription;
 
+  // Server-pushed changes replace polling: updates are applied in place,
+  // inserts and deletes reload the current page (at most twice a second)
+  private changeSubscription: Subscription;
+  private reloadSubject = new Subject<void>();
+  private reloadSubscription: Subscription;
+
   constructor(
     private employeeApi: EmployeeApiService,
+    private employeeChanges: EmployeeChangesService,
     private dialog: MatDialog,
   ) {
     // Initialize the debounce logic for searching
@@ -64,6 +74,13 @@ export class EmployeeList implements OnDestroy {
       this.executeSearch(val);
     });
 
+    this.reloadSubscription = this.reloadSubject.pipe(
+      auditTime(500)
+    ).subscribe(() => this.loadEmployees());
+
+    this.changeSubscription = this.employeeChanges.changes()
+      .subscribe(change => this.applyChange(change));
+
     this.loadEmployees();
   }
 
@@ -74,6 +91,23 @@ export class EmployeeList implements OnDestroy {
     if (this.filterSubscription) {
       this.filterSubscription.unsubscribe();
     }
+    this.changeSubscription?.unsubscribe();
+    this.reloadSubscription?.unsubscribe();
+  }
+
+  /**
+   * Applies a pushed change. An update of a visible row is patched in place;
+   * anything else may move rows between pages, so the page is fetched again.
+   */
+  private applyChange(change: EmployeeChange): void {
+    if (change.type === 'UPDATED' && change.employee) {
+      const updated = change.employee;
+      if (this.employees().some(e => e.id === updated.id)) {
+        this.employees.update(list => list.map(e => e.id === updated.id ? updated : e));
+      }
+      return;
+    }
+    this.reloadSubject.next();
   }
 
   /**
@@ -83,10 +117,10 @@ export class EmployeeList implements OnDestroy {
     this.loading.set(true);
     const sortStr = `${this.sortState().active},${this.sortState().direction || 'asc'}`;
 
-    this.employeeApi.getEmployees(this.pageIndex(), this.pageSize(), sortStr).subscribe({
+    this.employeeApi.getEmployees(this.pageIndex(), this.pageSize(), sortStr, this.searchTerm()).subscribe({
       next: (response: Page<Employee>) => {
         this.employees.set(response.content);
-        this.totalElements.set(response.page.totalElements);
+        this.totalElements.set(this.paginatorLength(response));
         this.loading.set(false);
       },
       error: (err) => {
@@ -96,6 +130,16 @@ export class EmployeeList implements OnDestroy {
     });
   }
 
+  /**
+   * Length for the paginator: the (possibly estimated) total, or without one
+   * just enough to enable "next page" while the server reports more rows.
+   */
+  private paginatorLength(response: Page<Employee>): number {
+    const seen = response.page.number * response.page.size + response.content.length;
+    const total = response.page.totalElements ?? seen + (response.page.hasNext ? 1 : 0);
+    return Math.max(total, seen);
+  }
+
   /**
    * Triggered on every keystroke in the filter input.
    */
@@ -106,31 +150,12 @@ export class EmployeeList implements OnDestroy {
 
   /**
    * The actual search logic, called after debounce.
+   * Filtering, ranking and paging happen on the server.
    */
   private executeSearch(filterValue: string): void {
-    const trimmedValue = filterValue.trim().toLowerCase();
-
-    if (trimmedValue) {
-      this.loading.set(true);
-      // "The Compromise": Fetch all elements from DB to allow full client-side filtering
-      this.employeeApi
-        .getEmployees(0, this.totalElements(), 'lastName,asc', trimmedValue)
-        .subscribe({
-          next: (response) => {
-            this.employees.set(response.content);
-            this.dataSource().filter = trimmedValue;
-            this.loading.set(false);
-          },
-          error: (err) => {
-            console.error('Search error:', err);
-            this.loading.set(false);
-          }
-        });
-    } else {
-      // If filter is empty, return to normal paginated view
-      this.pageIndex.set(0);
-      this.loadEmployees();
-    }
+    this.searchTerm.set(filterValue.trim());
+    this.pageIndex.set(0);
+    this.loadEmployees();
   }
 
   onPageChange(event: PageEvent): void {